@@ -0,0 +1,15 @@
+package cl.mobdev.rm.application.dto;
+
+import java.time.Instant;
+
+public record CatalogSyncStatusResponse(
+    String resource,
+    String status,
+    int upstream_count,
+    int last_page,
+    int total_pages,
+    long rows_processed,
+    long rows_written,
+    double rows_per_second,
+    Instant started_at,
+    Instant updated_at) {}
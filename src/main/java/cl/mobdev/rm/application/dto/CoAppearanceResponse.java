@@ -0,0 +1,3 @@
+package cl.mobdev.rm.application.dto;
+
+public record CoAppearanceResponse(Integer id, String name, Integer shared_episodes) {}
@@ -0,0 +1,4 @@
+package cl.mobdev.rm.application.dto;
+
+public record EpisodeResponse(
+    Integer id, String name, String air_date, String episode, Integer character_count) {}
@@ -0,0 +1,10 @@
+package cl.mobdev.rm.application.dto;
+
+import java.util.List;
+
+public record ResidentPageResponse(
+    int page,
+    int size,
+    int total_elements,
+    int total_pages,
+    List<ResidentSummaryResponse> content) {}
@@ -0,0 +1,3 @@
+package cl.mobdev.rm.application.dto;
+
+public record ResidentSummaryResponse(Integer id, String name, String status, String species) {}
@@ -3,38 +3,100 @@ package cl.mobdev.rm.application.mapper;
 import cl.mobdev.rm.application.dto.CharacterRequest;
 import cl.mobdev.rm.application.dto.CharacterResponse;
 import cl.mobdev.rm.application.dto.OriginResponse;
+import cl.mobdev.rm.application.dto.ResidentPageResponse;
+import cl.mobdev.rm.application.dto.ResidentSummaryResponse;
+import cl.mobdev.rm.application.timing.RequestTiming;
 import cl.mobdev.rm.domain.model.Character;
 import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.domain.model.ResidentPage;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class CharacterMapper {
 
+  /** Names of the character response properties, in the order they are rendered. */
+  public static final List<String> FIELDS =
+      List.of("id", "name", "status", "species", "type", "episode_count", "origin");
+
   private CharacterMapper() {}
 
   public static CharacterResponse mapperToCharacterResponse(
-      cl.mobdev.rm.domain.model.Character character) {
-    var origin = getOriginResponse(character);
-    return new CharacterResponse(
-        character.id(),
-        character.name(),
-        character.status(),
-        character.species(),
-        character.type(),
-        character.episodeCount(),
-        origin);
+      cl.mobdev.rm.domain.model.Character character, CharacterUrls urls) {
+    return RequestTiming.time(
+        "map",
+        () ->
+            new CharacterResponse(
+                character.id(),
+                character.name(),
+                character.status(),
+                character.species(),
+                character.type(),
+                character.episodeCount(),
+                getOriginResponse(character, urls)));
+  }
+
+  /** Renders only the requested response properties, keeping their usual order. */
+  public static Map<String, Object> mapperToSparseResponse(
+      Character character, Set<String> fields, CharacterUrls urls) {
+    return RequestTiming.time(
+        "map",
+        () -> {
+          Map<String, Object> response = new LinkedHashMap<>();
+          for (String field : FIELDS) {
+            if (fields.contains(field)) {
+              response.put(field, fieldValue(character, field, urls));
+            }
+          }
+          return response;
+        });
+  }
+
+  private static Object fieldValue(Character character, String field, CharacterUrls urls) {
+    return switch (field) {
+      case "id" -> character.id();
+      case "name" -> character.name();
+      case "status" -> character.status();
+      case "species" -> character.species();
+      case "type" -> character.type();
+      case "episode_count" -> character.episodeCount();
+      case "origin" -> getOriginResponse(character, urls).orElse(null);
+      default -> throw new IllegalArgumentException("Unknown field " + field);
+    };
   }
 
-  public static Optional<OriginResponse> getOriginResponse(Character character) {
+  public static Optional<OriginResponse> getOriginResponse(
+      Character character, CharacterUrls urls) {
     return character
         .location()
         .map(
             origin ->
                 new OriginResponse(
-                    origin.name(), origin.url(), origin.dimension(), origin.residents()));
+                    origin.name(),
+                    origin.url(),
+                    origin.dimension(),
+                    urls.toUrls(origin.residents())));
+  }
+
+  public static ResidentPageResponse mapperToResidentPageResponse(ResidentPage page) {
+    return new ResidentPageResponse(
+        page.page(),
+        page.size(),
+        page.total(),
+        page.totalPages(),
+        page.residents().stream().map(CharacterMapper::toSummary).toList());
+  }
+
+  private static ResidentSummaryResponse toSummary(Character character) {
+    return new ResidentSummaryResponse(
+        character.id(), character.name(), character.status(), character.species());
   }
 
-  public static Character mapperToCharacter(CharacterRequest characterRequest) {
-    Optional<Location> origin = getLocation(characterRequest);
+  /** Rejects origin residents that are not character URLs of the upstream API with a 400. */
+  public static Character mapperToCharacter(CharacterRequest characterRequest, CharacterUrls urls) {
+    Optional<Location> origin = getLocation(characterRequest, urls);
     return new Character(
         characterRequest.id(),
         characterRequest.name(),
@@ -45,12 +107,13 @@ public class CharacterMapper {
         origin);
   }
 
-  private static Optional<Location> getLocation(CharacterRequest characterRequest) {
+  private static Optional<Location> getLocation(
+      CharacterRequest characterRequest, CharacterUrls urls) {
     return characterRequest
         .origin()
         .map(
             o ->
                 new cl.mobdev.rm.domain.model.Location(
-                    o.name(), o.url(), o.dimension(), o.residents()));
+                    o.name(), o.url(), o.dimension(), urls.toIds(o.residents())));
   }
 }
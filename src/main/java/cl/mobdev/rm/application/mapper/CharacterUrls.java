@@ -0,0 +1,81 @@
+package cl.mobdev.rm.application.mapper;
+
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Converts resident IDs to and from the character URLs of the configured upstream API. Responses
+ * rebuild the URLs on demand; requests must send URLs this API would have produced.
+ */
+public final class CharacterUrls {
+
+  private static final int MAX_ID_DIGITS = 9;
+
+  private final String prefix;
+
+  public CharacterUrls(String baseUrl) {
+    this.prefix = (baseUrl.endsWith("/") ? baseUrl : baseUrl + "/") + "character/";
+  }
+
+  /** A read-only view that builds each URL when it is read. */
+  public List<String> toUrls(CharacterIds ids) {
+    return new UrlView(ids);
+  }
+
+  /** Parses the ID of each character URL; any other value is rejected with a 400. */
+  public CharacterIds toIds(List<String> urls) {
+    if (urls == null || urls.isEmpty()) {
+      return CharacterIds.empty();
+    }
+    int[] ids = new int[urls.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = parse(urls.get(i));
+    }
+    return CharacterIds.of(ids);
+  }
+
+  private int parse(String url) {
+    if (url == null
+        || !url.startsWith(prefix)
+        || url.length() == prefix.length()
+        || url.length() - prefix.length() > MAX_ID_DIGITS) {
+      throw invalid(url);
+    }
+    int id = 0;
+    for (int i = prefix.length(); i < url.length(); i++) {
+      char c = url.charAt(i);
+      if (c < '0' || c > '9') {
+        throw invalid(url);
+      }
+      id = id * 10 + (c - '0');
+    }
+    return id;
+  }
+
+  private RickAndMortyApiException invalid(String url) {
+    return new RickAndMortyApiException(
+        HttpStatusCode.valueOf(400), "Resident is not a character URL of " + prefix + ": " + url);
+  }
+
+  private final class UrlView extends AbstractList<String> implements RandomAccess {
+    private final CharacterIds ids;
+
+    private UrlView(CharacterIds ids) {
+      this.ids = ids;
+    }
+
+    @Override
+    public String get(int index) {
+      return prefix + ids.get(index);
+    }
+
+    @Override
+    public int size() {
+      return ids.size();
+    }
+  }
+}
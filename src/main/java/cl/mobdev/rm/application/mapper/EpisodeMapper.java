@@ -0,0 +1,18 @@
+package cl.mobdev.rm.application.mapper;
+
+import cl.mobdev.rm.application.dto.EpisodeResponse;
+import cl.mobdev.rm.domain.model.Episode;
+
+public class EpisodeMapper {
+
+  private EpisodeMapper() {}
+
+  public static EpisodeResponse mapperToEpisodeResponse(Episode episode) {
+    return new EpisodeResponse(
+        episode.id(),
+        episode.name(),
+        episode.airDate(),
+        episode.code(),
+        episode.characters().size());
+  }
+}
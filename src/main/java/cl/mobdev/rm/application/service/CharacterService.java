@@ -1,26 +1,148 @@
 package cl.mobdev.rm.application.service;
 
+import cl.mobdev.rm.application.timing.RequestTiming;
 import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.domain.model.ResidentPage;
 import cl.mobdev.rm.domain.ports.CharacterRepository;
 import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 public class CharacterService {
 
   private final ExternalCharacterRepository externalRepo;
   private final CharacterRepository localRepo;
+  private final ExecutorService writeBackExecutor;
+  private final Duration freshness;
+  private final Set<Integer> pendingWriteBacks = ConcurrentHashMap.newKeySet();
 
-  public CharacterService(ExternalCharacterRepository externalRepo, CharacterRepository localRepo) {
+  public CharacterService(
+      ExternalCharacterRepository externalRepo,
+      CharacterRepository localRepo,
+      ExecutorService writeBackExecutor,
+      @Value("${rickandmorty.local.freshness}") Duration freshness) {
     this.externalRepo = externalRepo;
     this.localRepo = localRepo;
+    this.writeBackExecutor = writeBackExecutor;
+    this.freshness = freshness;
   }
 
+  /**
+   * Serves the in-process cached copy if there is one, then a stored copy while it is younger than
+   * the freshness window. Otherwise the character is read from the upstream API and written back
+   * in the background, so the next read is local. When the database is unavailable reads go
+   * straight to the upstream API.
+   */
   public Character findCharacter(String id) {
-    return externalRepo.findCharacter(id);
+    return findCharacter(id, true);
   }
 
+  /**
+   * Same as {@link #findCharacter(String)}, but an upstream read skips the origin lookup unless
+   * {@code withOrigin}. Only characters read with their origin are written back, so a partial
+   * read never blanks the stored location. Without the origin, a stored copy is returned without
+   * its location too, whichever tier answers.
+   */
+  public Character findCharacter(String id, boolean withOrigin) {
+    Optional<Character> cached = externalRepo.findCachedCharacter(id, withOrigin);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    return findStored(Integer.valueOf(id))
+        .map(stored -> withOrigin ? stored : stored.withLocation(Optional.empty()))
+        .orElseGet(
+            () ->
+                RequestTiming.time(
+                    "fetch",
+                    () -> {
+                      if (!withOrigin) {
+                        return externalRepo.findCharacter(id, false);
+                      }
+                      Character character = externalRepo.findCharacter(id);
+                      writeBack(character);
+                      return character;
+                    }));
+  }
+
+  public List<Character> findCharacters(List<String> ids) {
+    return RequestTiming.time("fetch", () -> externalRepo.findCharacters(ids));
+  }
+
+  public List<Character> findCharacters(List<String> ids, boolean withOrigin) {
+    return withOrigin
+        ? findCharacters(ids)
+        : RequestTiming.time("fetch", () -> externalRepo.findCharacters(ids, false));
+  }
+
+  /**
+   * One page of the residents of a character's origin, resolved with one multi-ID upstream call
+   * (cached per character, origins skipped). Pages are 1-based; a page past the end is empty.
+   */
+  public ResidentPage findOriginResidents(String id, int page, int size) {
+    CharacterIds residents =
+        findCharacter(id).location().map(Location::residents).orElse(CharacterIds.empty());
+
+    int total = residents.size();
+    int from = (int) Math.min((long) (page - 1) * size, total);
+    int to = Math.min(from + size, total);
+    List<String> pageIds =
+        IntStream.range(from, to).mapToObj(i -> String.valueOf(residents.get(i))).toList();
+
+    List<Character> content = pageIds.isEmpty() ? List.of() : findCharacters(pageIds, false);
+    return new ResidentPage(page, size, total, content);
+  }
+
+  /** Stores the character and drops every cached copy, so the next read returns the saved one. */
   public Character saveToLocal(Character character) {
-    return localRepo.save(character);
+    Character saved = localRepo.save(character);
+    externalRepo.evict(String.valueOf(saved.id()));
+    return saved;
+  }
+
+  /** A fresh stored copy, also handed to the in-process cache so the next read stays in memory. */
+  private Optional<Character> findStored(Integer id) {
+    Instant fetchedAfter = Instant.now().minus(freshness);
+    Optional<Character> stored;
+    try {
+      stored =
+          RequestTiming.time("db", () -> localRepo.findFreshByApiCharacterId(id, fetchedAfter));
+    } catch (DataAccessException ex) {
+      log.warn(
+          "Stored characters unavailable, reading {} from the upstream API: {}",
+          id,
+          ex.getMostSpecificCause().getMessage());
+      return Optional.empty();
+    }
+    stored.ifPresent(externalRepo::cacheCharacter);
+    return stored;
+  }
+
+  private void writeBack(Character character) {
+    if (!pendingWriteBacks.add(character.id())) {
+      return;
+    }
+    CompletableFuture.runAsync(() -> localRepo.refresh(character), writeBackExecutor)
+        .whenComplete(
+            (ignored, error) -> {
+              pendingWriteBacks.remove(character.id());
+              if (error != null) {
+                log.warn("Could not store character {} locally", character.id(), error);
+              }
+            });
   }
 }
@@ -0,0 +1,78 @@
+package cl.mobdev.rm.application.service;
+
+import cl.mobdev.rm.application.dto.CoAppearanceResponse;
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CoAppearance;
+import cl.mobdev.rm.domain.model.Episode;
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.domain.ports.ExternalEpisodeRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EpisodeService {
+
+  private final ExternalEpisodeRepository episodeRepo;
+  private final ExternalCharacterRepository characterRepo;
+
+  public EpisodeService(
+      ExternalEpisodeRepository episodeRepo, ExternalCharacterRepository characterRepo) {
+    this.episodeRepo = episodeRepo;
+    this.characterRepo = characterRepo;
+  }
+
+  public Episode findEpisode(String id) {
+    return episodeRepo
+        .findEpisode(Integer.parseInt(id))
+        .orElseThrow(
+            () -> new RickAndMortyApiException(HttpStatusCode.valueOf(404), "Episode not found"));
+  }
+
+  public List<Episode> findEpisodes(List<String> ids) {
+    return episodeRepo.findEpisodes(ids.stream().map(Integer::valueOf).toList());
+  }
+
+  /**
+   * Resolved from the local episode table, without an upstream call per episode. Every upstream
+   * character appears in some episode, so only an empty result is checked against the character
+   * lookup, which answers 404 for an unknown ID.
+   */
+  public List<Episode> findCharacterEpisodes(String characterId) {
+    List<Episode> episodes = episodeRepo.findEpisodesOfCharacter(Integer.parseInt(characterId));
+    if (episodes.isEmpty()) {
+      requireCharacter(characterId);
+    }
+    return episodes;
+  }
+
+  /**
+   * The characters that share the most episodes with the given one, ranked on the local episode
+   * graph. Their names come from one multi-ID character lookup without origins.
+   */
+  public List<CoAppearanceResponse> findCoAppearances(String characterId, int limit) {
+    List<CoAppearance> ranked = episodeRepo.findCoAppearances(Integer.parseInt(characterId), limit);
+    if (ranked.isEmpty()) {
+      requireCharacter(characterId);
+      return List.of();
+    }
+    List<String> ids = ranked.stream().map(other -> String.valueOf(other.characterId())).toList();
+    Map<Integer, String> names =
+        characterRepo.findCharacters(ids, false).stream()
+            .collect(Collectors.toMap(Character::id, Character::name, (a, b) -> a));
+    return ranked.stream()
+        .map(
+            other ->
+                new CoAppearanceResponse(
+                    other.characterId(), names.get(other.characterId()), other.sharedEpisodes()))
+        .toList();
+  }
+
+  /** Throws the upstream 404 when no character has this ID. */
+  private void requireCharacter(String characterId) {
+    characterRepo.findCharacter(characterId, false);
+  }
+}
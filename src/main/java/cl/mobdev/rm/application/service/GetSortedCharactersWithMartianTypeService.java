@@ -5,7 +5,9 @@ import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
 import cl.mobdev.rm.domain.ports.GetSortedCharactersWithMartianTypeUseCase;
 import java.util.Comparator;
 import java.util.List;
+import org.springframework.stereotype.Service;
 
+@Service
 public class GetSortedCharactersWithMartianTypeService
     implements GetSortedCharactersWithMartianTypeUseCase {
 
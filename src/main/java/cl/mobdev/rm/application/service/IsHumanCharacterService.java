@@ -13,8 +13,9 @@ public class IsHumanCharacterService implements IsHumanCharacterUseCase {
     this.client = client;
   }
 
+  /** Only the species is needed, so the origin lookup is skipped. */
   @Override
   public boolean execute(String characterId) {
-    return client.findCharacter(characterId).species().equalsIgnoreCase("Human");
+    return client.findCharacter(characterId, false).species().equalsIgnoreCase("Human");
   }
 }
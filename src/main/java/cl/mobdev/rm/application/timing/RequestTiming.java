@@ -0,0 +1,129 @@
+package cl.mobdev.rm.application.timing;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Named time segments of one request, for the {@code Server-Timing} header and the request log.
+ * A request is only timed between {@link #begin()} and {@link #end()}; on any other thread {@link
+ * #time} and {@link #start} cost one thread-local read and record nothing. Segments with the same
+ * name add up, and are listed in the order they first started.
+ *
+ * <p>Work handed to an executor wrapped with {@link #propagating(Executor)} records into the
+ * request that submitted it.
+ */
+public final class RequestTiming {
+
+  private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+  private static final Span NOT_TIMED = () -> {};
+
+  private final long startedAt = System.nanoTime();
+  private final ConcurrentMap<String, Segment> segments = new ConcurrentHashMap<>();
+
+  private RequestTiming() {}
+
+  /** Starts timing the current thread's request. */
+  public static RequestTiming begin() {
+    RequestTiming timing = new RequestTiming();
+    CURRENT.set(timing);
+    return timing;
+  }
+
+  public static void end() {
+    CURRENT.remove();
+  }
+
+  public static <T> T time(String segment, Supplier<T> call) {
+    RequestTiming timing = CURRENT.get();
+    if (timing == null) {
+      return call.get();
+    }
+    long start = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      timing.record(segment, start);
+    }
+  }
+
+  /** For segments that throw checked exceptions: {@code try (Span span = start("write")) {..}}. */
+  public static Span start(String segment) {
+    RequestTiming timing = CURRENT.get();
+    if (timing == null) {
+      return NOT_TIMED;
+    }
+    long start = System.nanoTime();
+    return () -> timing.record(segment, start);
+  }
+
+  /** Runs each task with the submitting thread's request timing, if any. */
+  public static Executor propagating(Executor executor) {
+    return task -> {
+      RequestTiming timing = CURRENT.get();
+      if (timing == null) {
+        executor.execute(task);
+        return;
+      }
+      executor.execute(
+          () -> {
+            RequestTiming previous = CURRENT.get();
+            CURRENT.set(timing);
+            try {
+              task.run();
+            } finally {
+              CURRENT.set(previous);
+            }
+          });
+    };
+  }
+
+  /** Milliseconds per segment, in start order, followed by {@code total}. */
+  public Map<String, Double> millis() {
+    Map<String, Double> millis =
+        segments.entrySet().stream()
+            .sorted(Comparator.comparingLong(entry -> entry.getValue().firstStart()))
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> toMillis(entry.getValue().nanos()),
+                    (a, b) -> a,
+                    LinkedHashMap::new));
+    millis.put("total", toMillis(System.nanoTime() - startedAt));
+    return millis;
+  }
+
+  /** {@link #millis()} as a {@code Server-Timing} header value, e.g. {@code character;dur=12.4}. */
+  public static String serverTiming(Map<String, Double> millis) {
+    return millis.entrySet().stream()
+        .map(entry -> entry.getKey() + ";dur=" + entry.getValue())
+        .collect(Collectors.joining(", "));
+  }
+
+  private void record(String segment, long start) {
+    long nanos = System.nanoTime() - start;
+    segments.merge(
+        segment,
+        new Segment(start, nanos),
+        (a, b) -> new Segment(Math.min(a.firstStart(), b.firstStart()), a.nanos() + b.nanos()));
+  }
+
+  private static double toMillis(long nanos) {
+    return Math.round(nanos / (double) TimeUnit.MICROSECONDS.toNanos(100)) / 10.0;
+  }
+
+  /** A running segment; closing it records the elapsed time. */
+  @FunctionalInterface
+  public interface Span extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  private record Segment(long firstStart, long nanos) {}
+}
@@ -14,4 +14,8 @@ public record Character(
   public Character withType(String type) {
     return new Character(id, name, status, species, type, episodeCount, location);
   }
+
+  public Character withLocation(Optional<Location> location) {
+    return new Character(id, name, status, species, type, episodeCount, location);
+  }
 }
@@ -0,0 +1,62 @@
+package cl.mobdev.rm.domain.model;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable list of upstream character IDs, backed by an {@code int[]}. Residents are parsed from
+ * URLs once at the boundary; the URLs themselves are rebuilt outside the domain for responses.
+ */
+public final class CharacterIds {
+
+  private static final CharacterIds EMPTY = new CharacterIds(new int[0]);
+
+  private final int[] ids;
+
+  private CharacterIds(int[] ids) {
+    this.ids = ids;
+  }
+
+  public static CharacterIds of(int... ids) {
+    return ids == null || ids.length == 0 ? EMPTY : new CharacterIds(ids.clone());
+  }
+
+  public static CharacterIds empty() {
+    return EMPTY;
+  }
+
+  public int size() {
+    return ids.length;
+  }
+
+  public boolean isEmpty() {
+    return ids.length == 0;
+  }
+
+  public int get(int index) {
+    return ids[index];
+  }
+
+  public int[] toArray() {
+    return ids.clone();
+  }
+
+  public IntStream stream() {
+    return Arrays.stream(ids);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof CharacterIds other && Arrays.equals(ids, other.ids);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(ids);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(ids);
+  }
+}
@@ -0,0 +1,4 @@
+package cl.mobdev.rm.domain.model;
+
+/** A character that shares {@code sharedEpisodes} episodes with the character queried. */
+public record CoAppearance(int characterId, int sharedEpisodes) {}
@@ -0,0 +1,8 @@
+package cl.mobdev.rm.domain.model;
+
+/** An upstream episode; {@code code} is the season/episode code such as {@code S01E01}. */
+public record Episode(int id, String name, String airDate, String code, CharacterIds characters) {
+  public Episode {
+    characters = characters != null ? characters : CharacterIds.empty();
+  }
+}
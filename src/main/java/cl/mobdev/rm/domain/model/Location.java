@@ -1,5 +1,7 @@
 package cl.mobdev.rm.domain.model;
 
-import java.util.List;
-
-public record Location(String name, String url, String dimension, List<String> residents) {}
+public record Location(String name, String url, String dimension, CharacterIds residents) {
+  public Location {
+    residents = residents != null ? residents : CharacterIds.empty();
+  }
+}
@@ -0,0 +1,11 @@
+package cl.mobdev.rm.domain.model;
+
+import java.util.List;
+
+/** One 1-based page of the residents of a character's origin, out of {@code total} residents. */
+public record ResidentPage(int page, int size, int total, List<Character> residents) {
+
+  public int totalPages() {
+    return (total + size - 1) / size;
+  }
+}
@@ -1,6 +1,7 @@
 package cl.mobdev.rm.domain.ports;
 
 import cl.mobdev.rm.domain.model.Character;
+import java.time.Instant;
 import java.util.Optional;
 
 public interface CharacterRepository {
@@ -8,5 +9,7 @@ public interface CharacterRepository {
 
   Optional<Character> findByApiCharacterId(Integer id);
 
-  boolean existByApiCharacterId(Integer id);
+  Optional<Character> findFreshByApiCharacterId(Integer id, Instant fetchedAfter);
+
+  void refresh(Character character);
 }
@@ -1,10 +1,46 @@
 package cl.mobdev.rm.domain.ports;
 
 import cl.mobdev.rm.domain.model.Character;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ExternalCharacterRepository {
   Character findCharacter(String id);
 
+  List<Character> findCharacters(Collection<String> ids);
+
   List<Character> getAllCharacters();
+
+  /**
+   * Like {@link #findCharacter(String)}, but when {@code withOrigin} is false the origin is not
+   * resolved and the location is left empty. Implementations that can skip the origin lookup
+   * override this.
+   */
+  default Character findCharacter(String id, boolean withOrigin) {
+    Character character = findCharacter(id);
+    return withOrigin ? character : character.withLocation(Optional.empty());
+  }
+
+  /**
+   * The character if an in-process cache already holds it, answered without any I/O. Empty when
+   * it is not cached or the implementation has no cache.
+   */
+  default Optional<Character> findCachedCharacter(String id, boolean withOrigin) {
+    return Optional.empty();
+  }
+
+  /** Offers a character read from elsewhere, e.g. the local store, to the in-process cache. */
+  default void cacheCharacter(Character character) {}
+
+  /** Drops every cached copy of the character, on every replica, after it changed. */
+  default void evict(String id) {}
+
+  /** Batch variant of {@link #findCharacter(String, boolean)}. */
+  default List<Character> findCharacters(Collection<String> ids, boolean withOrigin) {
+    List<Character> characters = findCharacters(ids);
+    return withOrigin
+        ? characters
+        : characters.stream().map(character -> character.withLocation(Optional.empty())).toList();
+  }
 }
@@ -0,0 +1,20 @@
+package cl.mobdev.rm.domain.ports;
+
+import cl.mobdev.rm.domain.model.CoAppearance;
+import cl.mobdev.rm.domain.model.Episode;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ExternalEpisodeRepository {
+  Optional<Episode> findEpisode(int id);
+
+  /** Episodes in the order of {@code ids}; unknown IDs are skipped. */
+  List<Episode> findEpisodes(Collection<Integer> ids);
+
+  /** Episodes the character appears in, in airing order. */
+  List<Episode> findEpisodesOfCharacter(int characterId);
+
+  /** The {@code limit} characters that share the most episodes with the character. */
+  List<CoAppearance> findCoAppearances(int characterId, int limit);
+}
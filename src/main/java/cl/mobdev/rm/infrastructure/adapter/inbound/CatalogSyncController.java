@@ -0,0 +1,36 @@
+package cl.mobdev.rm.infrastructure.adapter.inbound;
+
+import cl.mobdev.rm.application.dto.CatalogSyncStatusResponse;
+import cl.mobdev.rm.infrastructure.job.CatalogMirrorJob;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/catalog/sync")
+public class CatalogSyncController {
+
+  private final CatalogMirrorJob mirrorJob;
+  private final ExecutorService ioExecutor;
+
+  public CatalogSyncController(CatalogMirrorJob mirrorJob, ExecutorService ioExecutor) {
+    this.mirrorJob = mirrorJob;
+    this.ioExecutor = ioExecutor;
+  }
+
+  @GetMapping
+  public ResponseEntity<List<CatalogSyncStatusResponse>> getSyncStatus() {
+    return ResponseEntity.ok(mirrorJob.status());
+  }
+
+  @PostMapping
+  public ResponseEntity<Void> startSync() {
+    if (mirrorJob.isRunning()) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+    ioExecutor.execute(mirrorJob::run);
+    return ResponseEntity.accepted().build();
+  }
+}
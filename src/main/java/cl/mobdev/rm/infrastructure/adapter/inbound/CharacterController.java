@@ -2,10 +2,27 @@ package cl.mobdev.rm.infrastructure.adapter.inbound;
 
 import cl.mobdev.rm.application.dto.CharacterRequest;
 import cl.mobdev.rm.application.dto.CharacterResponse;
+import cl.mobdev.rm.application.dto.ResidentPageResponse;
 import cl.mobdev.rm.application.mapper.CharacterMapper;
+import cl.mobdev.rm.application.mapper.CharacterUrls;
 import cl.mobdev.rm.application.service.CharacterService;
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
 import cl.mobdev.rm.domain.model.Character;
-import jakarta.validation.constraints.Positive;
+import cl.mobdev.rm.infrastructure.web.CharacterResponseCache;
+import cl.mobdev.rm.infrastructure.web.UpstreamId;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,25 +30,125 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/character")
 public class CharacterController {
 
+  private static final int MAX_BATCH_SIZE = 100;
+  private static final String ORIGIN = "origin";
+
   private final CharacterService service;
+  private final CharacterResponseCache responseCache;
+  private final CharacterUrls characterUrls;
 
-  public CharacterController(CharacterService service) {
+  public CharacterController(
+      CharacterService service,
+      CharacterResponseCache responseCache,
+      @Value("${external.rickandmorty.base-url}") String baseUrl) {
     this.service = service;
+    this.responseCache = responseCache;
+    this.characterUrls = new CharacterUrls(baseUrl);
   }
 
+  /** Served from the rendered-response cache; only a miss maps and serializes the character. */
   @GetMapping("/{id}")
-  public ResponseEntity<CharacterResponse> getCharacterInformation(
-      @PathVariable @Positive String id) {
-    Character character = service.findCharacter(id);
-    CharacterResponse response = CharacterMapper.mapperToCharacterResponse(character);
+  public void getCharacterInformation(
+      @PathVariable @UpstreamId String id, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    responseCache
+        .get(
+            id,
+            CharacterResponseCache.ALL_FIELDS,
+            () ->
+                CharacterMapper.mapperToCharacterResponse(service.findCharacter(id), characterUrls))
+        .writeTo(request, response);
+  }
+
+  @GetMapping
+  public ResponseEntity<List<CharacterResponse>> getCharactersInformation(
+      @RequestParam @Size(min = 1, max = MAX_BATCH_SIZE) List<@UpstreamId String> ids) {
+    List<CharacterResponse> response =
+        service.findCharacters(ids).stream()
+            .map(character -> CharacterMapper.mapperToCharacterResponse(character, characterUrls))
+            .toList();
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * Sparse variant: {@code fields} picks the response properties and {@code expand=origin} adds
+   * the origin. The origin location is only fetched when it is part of the response.
+   */
+  @GetMapping(value = "/{id}", params = "fields")
+  public void getCharacterFields(
+      @PathVariable @UpstreamId String id,
+      @RequestParam Set<String> fields,
+      @RequestParam(required = false) Set<String> expand,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    Set<String> selected = selectedFields(fields, expand);
+    String selection =
+        CharacterMapper.FIELDS.stream().filter(selected::contains).collect(Collectors.joining(","));
+    responseCache
+        .get(
+            id,
+            selection,
+            () ->
+                CharacterMapper.mapperToSparseResponse(
+                    service.findCharacter(id, selected.contains(ORIGIN)), selected, characterUrls))
+        .writeTo(request, response);
+  }
+
+  @GetMapping(params = "fields")
+  public ResponseEntity<List<Map<String, Object>>> getCharactersFields(
+      @RequestParam @Size(min = 1, max = MAX_BATCH_SIZE) List<@UpstreamId String> ids,
+      @RequestParam Set<String> fields,
+      @RequestParam(required = false) Set<String> expand) {
+    Set<String> selected = selectedFields(fields, expand);
+    List<Map<String, Object>> response =
+        service.findCharacters(ids, selected.contains(ORIGIN)).stream()
+            .map(
+                character ->
+                    CharacterMapper.mapperToSparseResponse(character, selected, characterUrls))
+            .toList();
     return ResponseEntity.ok(response);
   }
 
+  /** Residents of the character's origin as summaries, one page at a time. */
+  @GetMapping("/{id}/origin/residents")
+  public ResponseEntity<ResidentPageResponse> getOriginResidents(
+      @PathVariable @UpstreamId String id,
+      @RequestParam(defaultValue = "1") @Min(1) int page,
+      @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_BATCH_SIZE) int size) {
+    return ResponseEntity.ok(
+        CharacterMapper.mapperToResidentPageResponse(service.findOriginResidents(id, page, size)));
+  }
+
   @PostMapping
   public ResponseEntity<CharacterResponse> saveCharacter(@RequestBody CharacterRequest request) {
-    Character character = CharacterMapper.mapperToCharacter(request);
+    Character character = CharacterMapper.mapperToCharacter(request, characterUrls);
     Character savedCharacter = service.saveToLocal(character);
-    CharacterResponse response = CharacterMapper.mapperToCharacterResponse(savedCharacter);
+    responseCache.invalidate(String.valueOf(savedCharacter.id()));
+    CharacterResponse response =
+        CharacterMapper.mapperToCharacterResponse(savedCharacter, characterUrls);
     return ResponseEntity.ok(response);
   }
+
+  private static Set<String> selectedFields(Set<String> fields, Set<String> expand) {
+    Set<String> selected = new HashSet<>(fields);
+    if (expand != null) {
+      for (String expanded : expand) {
+        if (!ORIGIN.equals(expanded)) {
+          throw badRequest("Unknown expansion: " + expanded);
+        }
+      }
+      selected.addAll(expand);
+    }
+    for (String field : selected) {
+      if (!CharacterMapper.FIELDS.contains(field)) {
+        throw badRequest("Unknown field: " + field);
+      }
+    }
+    return selected;
+  }
+
+  private static RickAndMortyApiException badRequest(String message) {
+    return new RickAndMortyApiException(HttpStatusCode.valueOf(400), message);
+  }
 }
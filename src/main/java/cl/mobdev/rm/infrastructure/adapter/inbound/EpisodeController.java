@@ -0,0 +1,55 @@
+package cl.mobdev.rm.infrastructure.adapter.inbound;
+
+import cl.mobdev.rm.application.dto.CoAppearanceResponse;
+import cl.mobdev.rm.application.dto.EpisodeResponse;
+import cl.mobdev.rm.application.mapper.EpisodeMapper;
+import cl.mobdev.rm.application.service.EpisodeService;
+import cl.mobdev.rm.infrastructure.web.UpstreamId;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1")
+public class EpisodeController {
+
+  private static final int MAX_BATCH_SIZE = 100;
+
+  private final EpisodeService service;
+
+  public EpisodeController(EpisodeService service) {
+    this.service = service;
+  }
+
+  @GetMapping("/episode/{id}")
+  public ResponseEntity<EpisodeResponse> getEpisode(@PathVariable @UpstreamId String id) {
+    return ResponseEntity.ok(EpisodeMapper.mapperToEpisodeResponse(service.findEpisode(id)));
+  }
+
+  @GetMapping("/episode")
+  public ResponseEntity<List<EpisodeResponse>> getEpisodes(
+      @RequestParam @Size(min = 1, max = MAX_BATCH_SIZE) List<@UpstreamId String> ids) {
+    return ResponseEntity.ok(
+        service.findEpisodes(ids).stream().map(EpisodeMapper::mapperToEpisodeResponse).toList());
+  }
+
+  @GetMapping("/character/{id}/episodes")
+  public ResponseEntity<List<EpisodeResponse>> getCharacterEpisodes(
+      @PathVariable @UpstreamId String id) {
+    return ResponseEntity.ok(
+        service.findCharacterEpisodes(id).stream()
+            .map(EpisodeMapper::mapperToEpisodeResponse)
+            .toList());
+  }
+
+  /** Characters ranked by the number of episodes they share with this one. */
+  @GetMapping("/character/{id}/co-appearances")
+  public ResponseEntity<List<CoAppearanceResponse>> getCoAppearances(
+      @PathVariable @UpstreamId String id,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_BATCH_SIZE) int limit) {
+    return ResponseEntity.ok(service.findCoAppearances(id, limit));
+  }
+}
@@ -0,0 +1,266 @@
+package cl.mobdev.rm.infrastructure.adapter.outbound;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.cache.InvalidationListeners;
+import cl.mobdev.rm.infrastructure.cache.LocationCache;
+import cl.mobdev.rm.infrastructure.cache.SharedCache;
+import cl.mobdev.rm.infrastructure.jfr.CacheAccessEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache in front of the upstream API. Caffeine evicts with W-TinyLFU, and the async
+ * variant keeps a single in-flight load per key while failed loads are discarded. Characters
+ * loaded without their origin are cached under their own key; a cached full character also
+ * serves those lookups.
+ *
+ * <p>An in-process miss is looked up in the {@link SharedCache} tier before the upstream API, and
+ * full characters loaded from upstream are written to it, so a fresh replica warms from the other
+ * replicas instead of the upstream. Only full characters go to the shared tier.
+ */
+public class CachingExternalCharacterRepository implements ExternalCharacterRepository {
+
+  private static final String CACHE = "characters";
+
+  private final ExternalCharacterRepository delegate;
+  private final AsyncCache<Key, Character> cache;
+  private final SharedCache<Character> shared;
+  private final InvalidationListeners invalidationListeners;
+
+  public CachingExternalCharacterRepository(
+      ExternalCharacterRepository delegate, AsyncCache<Key, Character> cache) {
+    this(delegate, cache, SharedCache.none());
+  }
+
+  public CachingExternalCharacterRepository(
+      ExternalCharacterRepository delegate,
+      AsyncCache<Key, Character> cache,
+      SharedCache<Character> shared) {
+    this(delegate, cache, shared, new InvalidationListeners());
+  }
+
+  /**
+   * {@code invalidationListeners} should also be the cache's removal listener, so that size and
+   * TTL evictions notify like explicit invalidations do.
+   */
+  public CachingExternalCharacterRepository(
+      ExternalCharacterRepository delegate,
+      AsyncCache<Key, Character> cache,
+      SharedCache<Character> shared,
+      InvalidationListeners invalidationListeners) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.shared = shared;
+    this.invalidationListeners = invalidationListeners;
+  }
+
+  @Override
+  public Character findCharacter(String id) {
+    return CacheAccessEvent.get(
+        CACHE,
+        id,
+        miss ->
+            cache.get(
+                Key.full(id),
+                key ->
+                    miss.load(
+                        CACHE,
+                        id,
+                        () ->
+                            shared
+                                .get(id)
+                                .orElseGet(
+                                    () -> {
+                                      Character character = delegate.findCharacter(id);
+                                      shared.put(id, character);
+                                      return character;
+                                    }))));
+  }
+
+  @Override
+  public Character findCharacter(String id, boolean withOrigin) {
+    if (withOrigin) {
+      return findCharacter(id);
+    }
+    Character full = completed(cache.getIfPresent(Key.full(id)));
+    if (full != null) {
+      return full.withLocation(Optional.empty());
+    }
+    return CacheAccessEvent.get(
+        CACHE,
+        id,
+        miss ->
+            cache.get(
+                Key.bare(id),
+                key ->
+                    miss.load(
+                        CACHE,
+                        id,
+                        () ->
+                            shared
+                                .get(id)
+                                .map(character -> character.withLocation(Optional.empty()))
+                                .orElseGet(() -> delegate.findCharacter(id, false)))));
+  }
+
+  /** Only loads that already completed count; an in-flight load is not waited for. */
+  @Override
+  public Optional<Character> findCachedCharacter(String id, boolean withOrigin) {
+    Character full = completed(cache.getIfPresent(Key.full(id)));
+    if (full != null) {
+      return Optional.of(withOrigin ? full : full.withLocation(Optional.empty()));
+    }
+    return withOrigin
+        ? Optional.empty()
+        : Optional.ofNullable(completed(cache.getIfPresent(Key.bare(id))));
+  }
+
+  /** Kept in-process only; the shared tier holds upstream reads. */
+  @Override
+  public void cacheCharacter(Character character) {
+    cache.synchronous().put(Key.full(String.valueOf(character.id())), character);
+  }
+
+  @Override
+  public List<Character> findCharacters(Collection<String> ids) {
+    return findCharacters(ids, true);
+  }
+
+  @Override
+  public List<Character> findCharacters(Collection<String> ids, boolean withOrigin) {
+    List<Key> keys = ids.stream().distinct().map(id -> new Key(id, withOrigin)).toList();
+    Map<Key, Character> found =
+        CacheAccessEvent.get(
+            CACHE,
+            ids,
+            miss ->
+                cache.getAll(
+                    keys,
+                    missing -> load(miss, missing.stream().map(Key::id).toList(), withOrigin)));
+
+    return keys.stream().map(found::get).filter(Objects::nonNull).toList();
+  }
+
+  @Override
+  public List<Character> getAllCharacters() {
+    List<Character> catalog = delegate.getAllCharacters();
+    shared.putAll(byId(catalog));
+    cache
+        .synchronous()
+        .putAll(
+            catalog.stream()
+                .collect(
+                    Collectors.toMap(
+                        character -> Key.full(String.valueOf(character.id())),
+                        c -> c,
+                        (a, b) -> a)));
+    return catalog;
+  }
+
+  /** Shared tier first, then one upstream call for whatever it did not have. */
+  private Map<Key, Character> load(
+      CacheAccessEvent.Miss miss, List<String> ids, boolean withOrigin) {
+    return miss.load(CACHE, ids, () -> fetch(ids, withOrigin));
+  }
+
+  private Map<Key, Character> fetch(List<String> ids, boolean withOrigin) {
+    Map<Key, Character> loaded = new HashMap<>();
+    Map<String, Character> fromShared = shared.getAll(ids);
+    fromShared.forEach(
+        (id, character) ->
+            loaded.put(
+                new Key(id, withOrigin),
+                withOrigin ? character : character.withLocation(Optional.empty())));
+
+    List<String> remaining = ids.stream().filter(id -> !fromShared.containsKey(id)).toList();
+    if (!remaining.isEmpty()) {
+      List<Character> fetched;
+      if (withOrigin) {
+        fetched = delegate.findCharacters(remaining);
+        shared.putAll(byId(fetched));
+      } else {
+        fetched = delegate.findCharacters(remaining, false);
+      }
+      fetched.forEach(
+          character -> loaded.put(new Key(String.valueOf(character.id()), withOrigin), character));
+    }
+    return loaded;
+  }
+
+  private static Character completed(CompletableFuture<Character> future) {
+    return future != null && future.isDone() && !future.isCompletedExceptionally()
+        ? future.join()
+        : null;
+  }
+
+  private static boolean hasOrigin(Character character, String locationId) {
+    return character
+        .location()
+        .map(Location::url)
+        .filter(url -> LocationCache.idOf(url).equals(locationId))
+        .isPresent();
+  }
+
+  private static Map<String, Character> byId(List<Character> characters) {
+    return characters.stream()
+        .collect(
+            Collectors.toMap(
+                character -> String.valueOf(character.id()), character -> character, (a, b) -> a));
+  }
+
+  public CacheStats stats() {
+    return cache.synchronous().stats();
+  }
+
+  /** Drops the character from the shared tier and from the in-process tier of every replica. */
+  @Override
+  public void evict(String id) {
+    invalidateLocal(id);
+    shared.evict(id);
+  }
+
+  public void invalidateLocal(String id) {
+    cache.synchronous().invalidateAll(List.of(Key.full(id), Key.bare(id)));
+    invalidationListeners.invalidated(id);
+  }
+
+  /**
+   * Drops the in-process characters whose origin is the location, since they embed its previous
+   * copy. Scans the tier, so it is meant for location evictions rather than per-request use.
+   */
+  public void invalidateLocalByOrigin(String locationId) {
+    cache.synchronous().asMap().values().stream()
+        .filter(character -> hasOrigin(character, locationId))
+        .map(character -> String.valueOf(character.id()))
+        .distinct()
+        .toList()
+        .forEach(this::invalidateLocal);
+  }
+
+  /** Called with the character ID whenever it leaves this replica's in-process tier. */
+  public void addInvalidationListener(Consumer<String> listener) {
+    invalidationListeners.add(listener);
+  }
+
+  /** Cache key: the upstream ID and whether the origin was resolved. */
+  public record Key(String id, boolean withOrigin) {
+    static Key full(String id) {
+      return new Key(id, true);
+    }
+
+    static Key bare(String id) {
+      return new Key(id, false);
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package cl.mobdev.rm.infrastructure.adapter.outbound;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes upstream catalog pages as batched INSERT ... ON CONFLICT upserts. Rows whose content hash
+ * matches the stored one are skipped, so a resync only touches what changed upstream. Characters
+ * created through POST are never overwritten.
+ */
+@Component
+public class CatalogMirrorJdbcWriter {
+
+  private static final String UPSERT_LOCATION =
+      """
+      INSERT INTO location_entity (name, url, dimension, resident_ids, content_hash)
+      VALUES (:name, :url, :dimension, :residentIds, :hash)
+      ON CONFLICT (url) DO UPDATE
+        SET name = EXCLUDED.name, dimension = EXCLUDED.dimension,
+            resident_ids = EXCLUDED.resident_ids, content_hash = EXCLUDED.content_hash""";
+  private static final String UPSERT_CHARACTER =
+      """
+      INSERT INTO characters (api_character_id, name, status, species, type, episode_count,
+        content_hash, fetched_at, location_id)
+      VALUES (:apiId, :name, :status, :species, :type, :episodeCount, :hash, :fetchedAt,
+        (SELECT id FROM location_entity WHERE url = :originUrl))
+      ON CONFLICT (api_character_id) DO UPDATE
+        SET name = EXCLUDED.name, status = EXCLUDED.status, species = EXCLUDED.species,
+            type = EXCLUDED.type, episode_count = EXCLUDED.episode_count,
+            content_hash = EXCLUDED.content_hash, fetched_at = EXCLUDED.fetched_at,
+            location_id = EXCLUDED.location_id
+        WHERE characters.fetched_at IS NOT NULL""";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final int batchSize;
+
+  public CatalogMirrorJdbcWriter(
+      NamedParameterJdbcTemplate jdbcTemplate,
+      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+  }
+
+  /** Upserts the changed locations of one page and returns the URLs of those written. */
+  public List<String> upsertLocations(List<Location> locations) {
+    Map<Object, Long> stored =
+        storedHashes(
+            "SELECT url AS k, content_hash FROM location_entity WHERE url IN (:keys)",
+            locations.stream().map(Location::url).toList());
+
+    List<MapSqlParameterSource> changed = new ArrayList<>();
+    List<String> changedUrls = new ArrayList<>();
+    for (Location location : locations) {
+      long hash = hash(location.name(), location.dimension(), location.url(), location.residents());
+      if (Objects.equals(stored.get(location.url()), hash)) {
+        continue;
+      }
+      changed.add(
+          new MapSqlParameterSource()
+              .addValue("name", location.name())
+              .addValue("url", location.url())
+              .addValue("dimension", location.dimension())
+              .addValue("residentIds", location.residents().toArray())
+              .addValue("hash", hash));
+      changedUrls.add(location.url());
+    }
+
+    batch(UPSERT_LOCATION, changed);
+    return changedUrls;
+  }
+
+  /** Upserts the changed characters of one page and returns the API IDs of those written. */
+  public List<Integer> upsertCharacters(List<Character> characters) {
+    Map<Object, Long> stored =
+        storedHashes(
+            "SELECT api_character_id AS k, content_hash FROM characters"
+                + " WHERE api_character_id IN (:keys)",
+            characters.stream().map(Character::id).toList());
+
+    Timestamp fetchedAt = Timestamp.from(Instant.now());
+    List<MapSqlParameterSource> changed = new ArrayList<>();
+    List<Integer> changedIds = new ArrayList<>();
+    for (Character character : characters) {
+      String originUrl = character.location().map(Location::url).orElse(null);
+      long hash =
+          hash(
+              character.name(),
+              character.status(),
+              character.species(),
+              character.type(),
+              character.episodeCount(),
+              originUrl);
+      if (Objects.equals(stored.get(character.id()), hash)) {
+        continue;
+      }
+      changed.add(
+          new MapSqlParameterSource()
+              .addValue("apiId", character.id())
+              .addValue("name", character.name())
+              .addValue("status", character.status())
+              .addValue("species", character.species())
+              .addValue("type", character.type())
+              .addValue("episodeCount", character.episodeCount())
+              .addValue("hash", hash)
+              .addValue("fetchedAt", fetchedAt)
+              .addValue("originUrl", originUrl));
+      changedIds.add(character.id());
+    }
+
+    batch(UPSERT_CHARACTER, changed);
+    return changedIds;
+  }
+
+  /** API IDs of the stored characters whose origin is one of these location URLs. */
+  public List<Integer> charactersFrom(Collection<String> locationUrls) {
+    if (locationUrls.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.queryForList(
+        "SELECT c.api_character_id FROM characters c"
+            + " JOIN location_entity l ON l.id = c.location_id WHERE l.url IN (:urls)",
+        Map.of("urls", locationUrls),
+        Integer.class);
+  }
+
+  private Map<Object, Long> storedHashes(String sql, List<?> keys) {
+    Map<Object, Long> hashes = new HashMap<>();
+    if (keys.isEmpty()) {
+      return hashes;
+    }
+    jdbcTemplate.query(
+        sql,
+        Map.of("keys", keys),
+        rs -> {
+          hashes.put(rs.getObject("k"), rs.getObject("content_hash", Long.class));
+        });
+    return hashes;
+  }
+
+  private void batch(String sql, List<MapSqlParameterSource> rows) {
+    for (int from = 0; from < rows.size(); from += batchSize) {
+      jdbcTemplate.batchUpdate(
+          sql,
+          rows.subList(from, Math.min(from + batchSize, rows.size()))
+              .toArray(SqlParameterSource[]::new));
+    }
+  }
+
+  /** 64-bit FNV-1a over the fields, separated so that ("ab", "c") and ("a", "bc") differ. */
+  private static long hash(Object... fields) {
+    long hash = 0xcbf29ce484222325L;
+    for (Object field : fields) {
+      for (byte b : String.valueOf(field).getBytes(StandardCharsets.UTF_8)) {
+        hash ^= b;
+        hash *= 0x100000001b3L;
+      }
+      hash ^= 0xff;
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,9 @@
+package cl.mobdev.rm.infrastructure.adapter.outbound;
+
+import cl.mobdev.rm.infrastructure.entity.CatalogSyncStateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogSyncStateJpaRepository
+    extends JpaRepository<CatalogSyncStateEntity, String> {}
@@ -1,15 +1,87 @@
 package cl.mobdev.rm.infrastructure.adapter.outbound;
 
 import cl.mobdev.rm.infrastructure.entity.CharacterEntity;
+import java.time.Instant;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CharacterJpaRepository extends JpaRepository<CharacterEntity, Integer> {
+  @EntityGraph(attributePaths = "location")
   Optional<CharacterEntity> findByApiCharacterId(Integer apiCharacterId);
 
-  boolean existsByApiCharacterId(Integer apiCharacterId);
+  @EntityGraph(attributePaths = "location")
+  Optional<CharacterEntity> findFirstByApiCharacterIdAndFetchedAtAfter(
+      Integer apiCharacterId, Instant fetchedAt);
+
+  Optional<CharacterEntity> findFirstByApiCharacterId(Integer apiCharacterId);
+
+  /**
+   * Inserts a created character without an origin, relying on the unique index instead of a prior
+   * existence check. A stored upstream copy with the same API id (one with {@code fetched_at} set)
+   * is taken over; another created character is not. Returns the number of rows written (0 or 1).
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO characters
+            (api_character_id, name, status, species, type, episode_count, location_id)
+          VALUES (:apiCharacterId, :name, :status, :species, :type, :episodeCount, NULL)
+          ON CONFLICT (api_character_id) DO UPDATE
+            SET name = EXCLUDED.name, status = EXCLUDED.status, species = EXCLUDED.species,
+                type = EXCLUDED.type, episode_count = EXCLUDED.episode_count,
+                location_id = NULL, fetched_at = NULL, content_hash = NULL
+            WHERE characters.fetched_at IS NOT NULL""",
+      nativeQuery = true)
+  int insertCreated(
+      @Param("apiCharacterId") Integer apiCharacterId,
+      @Param("name") String name,
+      @Param("status") String status,
+      @Param("species") String species,
+      @Param("type") String type,
+      @Param("episodeCount") Integer episodeCount);
+
+  /**
+   * Same as {@link #insertCreated}, in the same statement storing the origin by URL unless a
+   * location with that URL is stored already. The no-op update on a URL conflict returns the
+   * stored location's id, after waiting for a concurrent insert of it to commit.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          WITH origin AS (
+            INSERT INTO location_entity (name, url, dimension, resident_ids)
+            VALUES (:locationName, :locationUrl, :locationDimension, :residentIds)
+            ON CONFLICT (url) DO UPDATE SET url = EXCLUDED.url
+            RETURNING id)
+          INSERT INTO characters
+            (api_character_id, name, status, species, type, episode_count, location_id)
+          VALUES (:apiCharacterId, :name, :status, :species, :type, :episodeCount,
+                  (SELECT id FROM origin))
+          ON CONFLICT (api_character_id) DO UPDATE
+            SET name = EXCLUDED.name, status = EXCLUDED.status, species = EXCLUDED.species,
+                type = EXCLUDED.type, episode_count = EXCLUDED.episode_count,
+                location_id = EXCLUDED.location_id, fetched_at = NULL, content_hash = NULL
+            WHERE characters.fetched_at IS NOT NULL""",
+      nativeQuery = true)
+  int insertCreatedWithOrigin(
+      @Param("apiCharacterId") Integer apiCharacterId,
+      @Param("name") String name,
+      @Param("status") String status,
+      @Param("species") String species,
+      @Param("type") String type,
+      @Param("episodeCount") Integer episodeCount,
+      @Param("locationName") String locationName,
+      @Param("locationUrl") String locationUrl,
+      @Param("locationDimension") String locationDimension,
+      @Param("residentIds") int[] residentIds);
 
   Optional<CharacterEntity> findById(Integer id);
 }
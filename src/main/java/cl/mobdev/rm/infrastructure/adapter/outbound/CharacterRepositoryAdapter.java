@@ -4,38 +4,161 @@ import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
 import cl.mobdev.rm.domain.model.Character;
 import cl.mobdev.rm.domain.ports.CharacterRepository;
 import cl.mobdev.rm.infrastructure.entity.CharacterEntity;
+import cl.mobdev.rm.infrastructure.jfr.RepositoryOperationEvent;
 import cl.mobdev.rm.infrastructure.mapper.CharacterDomainMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Stored characters. Every operation is timed as {@code rickandmorty.repository.operations},
+ * tagged by operation and outcome, so the local leg can be compared with the upstream one.
+ */
 @Component
 public class CharacterRepositoryAdapter implements CharacterRepository {
 
   private final CharacterJpaRepository characterJpaRepository;
+  private final LocationJpaRepository locationJpaRepository;
+  private final MeterRegistry meterRegistry;
 
-  public CharacterRepositoryAdapter(CharacterJpaRepository characterJpaRepository) {
+  public CharacterRepositoryAdapter(
+      CharacterJpaRepository characterJpaRepository,
+      LocationJpaRepository locationJpaRepository,
+      MeterRegistry meterRegistry) {
     this.characterJpaRepository = characterJpaRepository;
+    this.locationJpaRepository = locationJpaRepository;
+    this.meterRegistry = meterRegistry;
   }
 
+  /**
+   * Inserts with a single ON CONFLICT statement, origin included, so concurrent saves of the same
+   * character cannot both succeed. A copy stored by an upstream read is replaced; a character saved
+   * before is a conflict. The origin reuses the stored location with the same URL, if any.
+   */
   @Override
+  @Transactional
   public Character save(Character character) {
-    if (existByApiCharacterId(character.id())) {
+    return timed("save", character.id(), () -> insert(character));
+  }
+
+  private Character insert(Character character) {
+    int inserted =
+        character
+            .location()
+            .map(
+                location ->
+                    characterJpaRepository.insertCreatedWithOrigin(
+                        character.id(),
+                        character.name(),
+                        character.status(),
+                        character.species(),
+                        character.type(),
+                        character.episodeCount(),
+                        location.name(),
+                        location.url(),
+                        location.dimension(),
+                        location.residents().toArray()))
+            .orElseGet(
+                () ->
+                    characterJpaRepository.insertCreated(
+                        character.id(),
+                        character.name(),
+                        character.status(),
+                        character.species(),
+                        character.type(),
+                        character.episodeCount()));
+    if (inserted == 0) {
       throw new RickAndMortyApiException(
           HttpStatusCode.valueOf(409), "Character with ID " + character.id() + " already exists.");
     }
-    CharacterEntity entity = CharacterDomainMapper.toEntity(character);
-    CharacterEntity savedCharacter = characterJpaRepository.save(entity);
-    return CharacterDomainMapper.toDomain(savedCharacter);
+    return character;
   }
 
   @Override
   public Optional<Character> findByApiCharacterId(Integer id) {
-    return characterJpaRepository.findByApiCharacterId(id).map(CharacterDomainMapper::toDomain);
+    return timed(
+        "find",
+        id,
+        () -> characterJpaRepository.findByApiCharacterId(id).map(CharacterDomainMapper::toDomain));
+  }
+
+  @Override
+  public Optional<Character> findFreshByApiCharacterId(Integer id, Instant fetchedAfter) {
+    return timed(
+        "find-fresh",
+        id,
+        () ->
+            characterJpaRepository
+                .findFirstByApiCharacterIdAndFetchedAtAfter(id, fetchedAfter)
+                .map(CharacterDomainMapper::toDomain));
   }
 
+  /** Stores an upstream copy; a character created through {@link #save} is left as it is. */
   @Override
-  public boolean existByApiCharacterId(Integer id) {
-    return characterJpaRepository.existsByApiCharacterId(id);
+  @Transactional
+  public void refresh(Character character) {
+    timed(
+        "refresh",
+        character.id(),
+        () -> {
+          upsert(character);
+          return null;
+        });
+  }
+
+  private void upsert(Character character) {
+    CharacterEntity entity =
+        characterJpaRepository
+            .findFirstByApiCharacterId(character.id())
+            .orElseGet(CharacterEntity::new);
+    if (entity.getId() != null && entity.getFetchedAt() == null) {
+      return;
+    }
+    CharacterDomainMapper.copyToEntity(character, entity);
+    entity.setLocation(
+        character
+            .location()
+            .map(
+                location ->
+                    locationJpaRepository.getReferenceById(
+                        locationJpaRepository.upsert(
+                            location.name(),
+                            location.url(),
+                            location.dimension(),
+                            location.residents().toArray())))
+            .orElse(null));
+    entity.setFetchedAt(Instant.now());
+    characterJpaRepository.save(entity);
+  }
+
+  /** Records the operation as a timer sample and a {@link RepositoryOperationEvent}. */
+  private <T> T timed(String operation, Integer characterId, Supplier<T> call) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    String outcome = "error";
+    try {
+      T result = call.get();
+      outcome = "success";
+      event.succeeded = true;
+      return result;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.operation = operation;
+        event.characterId = characterId == null ? 0 : characterId;
+        event.commit();
+      }
+      sample.stop(
+          Timer.builder("rickandmorty.repository.operations")
+              .tag("operation", operation)
+              .tag("outcome", outcome)
+              .register(meterRegistry));
+    }
   }
 }
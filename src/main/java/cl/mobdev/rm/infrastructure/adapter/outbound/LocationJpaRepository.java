@@ -0,0 +1,30 @@
+package cl.mobdev.rm.infrastructure.adapter.outbound;
+
+import cl.mobdev.rm.infrastructure.entity.LocationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface LocationJpaRepository extends JpaRepository<LocationEntity, Integer> {
+
+  /** Inserts or overwrites the location with this URL and returns its id. */
+  @Query(
+      value =
+          """
+          INSERT INTO location_entity (name, url, dimension, resident_ids)
+          VALUES (:name, :url, :dimension, :residentIds)
+          ON CONFLICT (url) DO UPDATE
+            SET name = EXCLUDED.name, dimension = EXCLUDED.dimension,
+                resident_ids = EXCLUDED.resident_ids
+          RETURNING id""",
+      nativeQuery = true)
+  @Transactional
+  Integer upsert(
+      @Param("name") String name,
+      @Param("url") String url,
+      @Param("dimension") String dimension,
+      @Param("residentIds") int[] residentIds);
+}
@@ -1,48 +1,116 @@
 package cl.mobdev.rm.infrastructure.adapter.outbound;
 
+import cl.mobdev.rm.application.timing.RequestTiming;
 import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
 import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.cache.LocationCache;
+import cl.mobdev.rm.infrastructure.client.CharacterCatalogFetcher;
 import cl.mobdev.rm.infrastructure.client.RickAndMortyHttpClient;
-import cl.mobdev.rm.infrastructure.dto.CharacterApiDto;
-import cl.mobdev.rm.infrastructure.dto.LocationApiDto;
-import cl.mobdev.rm.infrastructure.mapper.CharacterEntityMapper;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-@Component
 public class RickAndMortyExternalCharacterRepositoryAdapter implements ExternalCharacterRepository {
 
   private final RickAndMortyHttpClient httpClient;
+  private final LocationCache locationCache;
+  private final CharacterCatalogFetcher catalogFetcher;
 
-  public RickAndMortyExternalCharacterRepositoryAdapter(RickAndMortyHttpClient httpClient) {
+  public RickAndMortyExternalCharacterRepositoryAdapter(
+      RickAndMortyHttpClient httpClient,
+      LocationCache locationCache,
+      CharacterCatalogFetcher catalogFetcher) {
     this.httpClient = httpClient;
+    this.locationCache = locationCache;
+    this.catalogFetcher = catalogFetcher;
   }
 
   @Override
   public Character findCharacter(String id) {
-    CharacterApiDto characterDto = httpClient.getCharacterApiDto(id);
-    return characterDto
-        .origin()
-        .map(
-            origin -> {
-              String url = origin.url();
-              String locationId = exctractLocationID(url);
+    return findCharacter(id, true);
+  }
 
-              LocationApiDto locDto = httpClient.getLocationApiDto(locationId);
+  /** Without the origin this is a single upstream call. */
+  @Override
+  public Character findCharacter(String id, boolean withOrigin) {
+    Character character = RequestTiming.time("character", () -> httpClient.getCharacter(id));
+    if (!withOrigin) {
+      return character.withLocation(Optional.empty());
+    }
+    return character.withLocation(
+        originLocationId(character)
+            .map(
+                locationId ->
+                    RequestTiming.time("location", () -> locationCache.get(locationId))));
+  }
 
-              return CharacterEntityMapper.toDomain(characterDto, locDto);
-            })
-        .orElse(CharacterEntityMapper.toDomain(characterDto));
+  @Override
+  public List<Character> findCharacters(Collection<String> ids) {
+    return findCharacters(ids, true);
+  }
+
+  @Override
+  public List<Character> findCharacters(Collection<String> ids, boolean withOrigin) {
+    List<String> distinctIds = ids.stream().distinct().toList();
+    if (distinctIds.isEmpty()) {
+      return List.of();
+    }
+
+    List<Character> characters =
+        RequestTiming.time("characters", () -> httpClient.getCharacters(distinctIds));
+    List<Character> resolved = withOrigin ? withOrigins(characters) : withoutOrigins(characters);
+    Map<String, Character> charactersById =
+        resolved.stream()
+            .collect(
+                Collectors.toMap(
+                    character -> String.valueOf(character.id()), character -> character));
+
+    return distinctIds.stream()
+        .map(charactersById::get)
+        .filter(Objects::nonNull)
+        .toList();
   }
 
   @Override
   public List<Character> getAllCharacters() {
-    return List.of();
+    return withOrigins(catalogFetcher.fetchAll());
   }
 
-  private static String exctractLocationID(String url) {
-    int locationIdIndex = 1;
+  /**
+   * Replaces the partial origin each upstream character carries with the full location, resolving
+   * the distinct origins of all characters with one multi-ID location fetch.
+   */
+  private List<Character> withOrigins(List<Character> characters) {
+    Set<String> locationIds =
+        characters.stream()
+            .map(RickAndMortyExternalCharacterRepositoryAdapter::originLocationId)
+            .flatMap(Optional::stream)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    Map<String, Location> locations =
+        locationIds.isEmpty()
+            ? Map.of()
+            : RequestTiming.time("locations", () -> locationCache.getAll(locationIds));
+
+    return characters.stream()
+        .map(
+            character ->
+                character.withLocation(originLocationId(character).map(locations::get)))
+        .toList();
+  }
+
+  private static List<Character> withoutOrigins(List<Character> characters) {
+    return characters.stream()
+        .map(character -> character.withLocation(Optional.empty()))
+        .toList();
+  }
 
-    return url.substring(url.lastIndexOf("/") + locationIdIndex);
+  private static Optional<String> originLocationId(Character character) {
+    return character.location().map(Location::url).map(LocationCache::idOf);
   }
 }
@@ -0,0 +1,122 @@
+package cl.mobdev.rm.infrastructure.adapter.outbound;
+
+import cl.mobdev.rm.domain.model.CoAppearance;
+import cl.mobdev.rm.domain.model.Episode;
+import cl.mobdev.rm.domain.ports.ExternalEpisodeRepository;
+import cl.mobdev.rm.infrastructure.cache.EpisodeTable;
+import cl.mobdev.rm.infrastructure.client.RickAndMortyHttpClient;
+import cl.mobdev.rm.infrastructure.dto.EpisodePageApiDto;
+import cl.mobdev.rm.infrastructure.job.CatalogRefreshedEvent;
+import cl.mobdev.rm.infrastructure.mapper.EpisodeApiMapper;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Episodes never change upstream and there are only a few dozen, so the first lookup loads the
+ * whole catalog into an {@link EpisodeTable} and keeps it for the life of the process. The load is
+ * the first page, for the total count, plus one multi-ID call for the rest. A failed load is not
+ * kept; the next lookup tries again. When the catalog mirror finishes, only episodes the table does
+ * not know yet are fetched and added.
+ */
+@Slf4j
+@Component
+public class RickAndMortyExternalEpisodeRepositoryAdapter implements ExternalEpisodeRepository {
+
+  private final RickAndMortyHttpClient httpClient;
+  private final Lock loadLock = new ReentrantLock();
+  private volatile EpisodeTable table;
+
+  public RickAndMortyExternalEpisodeRepositoryAdapter(RickAndMortyHttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  @Override
+  public Optional<Episode> findEpisode(int id) {
+    return table().get(id);
+  }
+
+  @Override
+  public List<Episode> findEpisodes(Collection<Integer> ids) {
+    return table().getAll(ids);
+  }
+
+  @Override
+  public List<Episode> findEpisodesOfCharacter(int characterId) {
+    return table().episodesOf(characterId);
+  }
+
+  @Override
+  public List<CoAppearance> findCoAppearances(int characterId, int limit) {
+    return table().coAppearances(characterId, limit);
+  }
+
+  /** Episodes held in memory; zero until the first lookup loads the table. */
+  public int cachedEpisodes() {
+    EpisodeTable loaded = table;
+    return loaded == null ? 0 : loaded.size();
+  }
+
+  /** Adds episodes published upstream since the table was loaded. */
+  @EventListener(CatalogRefreshedEvent.class)
+  public void refresh() {
+    loadLock.lock();
+    try {
+      EpisodeTable current = table;
+      if (current == null) {
+        return;
+      }
+      List<String> missing = missingIds(current, httpClient.getEpisodePage(1).info().count());
+      if (!missing.isEmpty()) {
+        table = current.with(fetch(missing));
+        log.info("Added {} new episodes to the episode table", missing.size());
+      }
+    } finally {
+      loadLock.unlock();
+    }
+  }
+
+  private EpisodeTable table() {
+    EpisodeTable loaded = table;
+    if (loaded != null) {
+      return loaded;
+    }
+    // A lock rather than synchronized, so that waiting virtual threads do not pin their carrier
+    // while the catalog is fetched.
+    loadLock.lock();
+    try {
+      if (table == null) {
+        table = load();
+      }
+      return table;
+    } finally {
+      loadLock.unlock();
+    }
+  }
+
+  private EpisodeTable load() {
+    EpisodePageApiDto firstPage = httpClient.getEpisodePage(1);
+    EpisodeTable firstPageOnly =
+        EpisodeTable.of(firstPage.results().stream().map(EpisodeApiMapper::toDomain).toList());
+    List<String> missing = missingIds(firstPageOnly, firstPage.info().count());
+    return missing.isEmpty() ? firstPageOnly : firstPageOnly.with(fetch(missing));
+  }
+
+  private List<Episode> fetch(List<String> ids) {
+    return httpClient.getEpisodes(ids).stream().map(EpisodeApiMapper::toDomain).toList();
+  }
+
+  /** Upstream episode IDs run from 1 to the catalog count. */
+  private static List<String> missingIds(EpisodeTable known, int count) {
+    return IntStream.rangeClosed(1, count)
+        .filter(id -> known.get(id).isEmpty())
+        .mapToObj(String::valueOf)
+        .toList();
+  }
+}
@@ -0,0 +1,10 @@
+package cl.mobdev.rm.infrastructure.cache;
+
+/** Binary form of a cached value in the shared tier. */
+public interface CacheCodec<V> {
+
+  byte[] encode(V value);
+
+  /** Returns null for bytes written by an incompatible version, which then count as a miss. */
+  V decode(byte[] bytes);
+}
@@ -0,0 +1,52 @@
+package cl.mobdev.rm.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Cross-replica invalidation over a Redis pub/sub channel. An eviction is published as {@code
+ * namespace:key}; every replica, the sender included, drops that key from the in-process cache
+ * registered for the namespace. Messages are fire-and-forget: a replica that misses one keeps its
+ * copy until the in-process TTL expires it.
+ */
+public class CacheInvalidationBus implements MessageListener {
+
+  public static final String CHANNEL = "rm:cache:invalidate";
+
+  private final RedisTemplate<String, byte[]> redis;
+  private final Map<String, Consumer<String>> localCaches = new ConcurrentHashMap<>();
+
+  public CacheInvalidationBus(RedisTemplate<String, byte[]> redis) {
+    this.redis = redis;
+  }
+
+  public void register(String namespace, Consumer<String> invalidateLocal) {
+    localCaches.put(namespace, invalidateLocal);
+  }
+
+  /**
+   * Throws {@link org.springframework.dao.DataAccessException} when Redis is unreachable, so the
+   * caller's availability guard can step aside like it does for any other Redis call.
+   */
+  public void publish(String namespace, String key) {
+    redis.convertAndSend(CHANNEL, (namespace + ":" + key).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(':');
+    if (separator < 0) {
+      return;
+    }
+    Consumer<String> invalidateLocal = localCaches.get(body.substring(0, separator));
+    if (invalidateLocal != null) {
+      invalidateLocal.accept(body.substring(separator + 1));
+    }
+  }
+}
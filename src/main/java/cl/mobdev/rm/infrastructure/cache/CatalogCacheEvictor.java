@@ -0,0 +1,34 @@
+package cl.mobdev.rm.infrastructure.cache;
+
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.job.CatalogRefreshedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the cached copies of whatever a catalog mirror run changed, on every replica, so that
+ * reads stop serving the previous upstream content before the cache TTL runs out.
+ */
+@Slf4j
+@Component
+public class CatalogCacheEvictor {
+
+  private final ExternalCharacterRepository characters;
+  private final LocationCache locations;
+
+  public CatalogCacheEvictor(ExternalCharacterRepository characters, LocationCache locations) {
+    this.characters = characters;
+    this.locations = locations;
+  }
+
+  @EventListener
+  public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+    event.changedLocationUrls().forEach(url -> locations.invalidate(LocationCache.idOf(url)));
+    event.changedCharacterIds().forEach(id -> characters.evict(String.valueOf(id)));
+    log.info(
+        "Evicted {} changed locations and {} changed characters from the caches",
+        event.changedLocationUrls().size(),
+        event.changedCharacterIds().size());
+  }
+}
@@ -0,0 +1,176 @@
+package cl.mobdev.rm.infrastructure.cache;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Compact binary encodings of the cached domain values. Integers are a presence byte plus a varint,
+ * strings are a varint length plus UTF-8 bytes (length 0 means null), and resident IDs are zigzag
+ * varint deltas, so the mostly ascending resident lists of popular origins take one or two bytes
+ * per resident. Every value starts with a format version; values of another version decode to
+ * null.
+ */
+public final class DomainCodecs {
+
+  private static final byte VERSION = 2;
+
+  public static final CacheCodec<Location> LOCATION =
+      new CacheCodec<>() {
+        @Override
+        public byte[] encode(Location location) {
+          Writer out = new Writer();
+          out.writeByte(VERSION);
+          writeLocation(out, location);
+          return out.toByteArray();
+        }
+
+        @Override
+        public Location decode(byte[] bytes) {
+          Reader in = new Reader(bytes);
+          return in.readByte() == VERSION ? readLocation(in) : null;
+        }
+      };
+
+  public static final CacheCodec<Character> CHARACTER =
+      new CacheCodec<>() {
+        @Override
+        public byte[] encode(Character character) {
+          Writer out = new Writer();
+          out.writeByte(VERSION);
+          out.writeInteger(character.id());
+          out.writeString(character.name());
+          out.writeString(character.status());
+          out.writeString(character.species());
+          out.writeString(character.type());
+          out.writeInteger(character.episodeCount());
+          out.writeByte(character.location().isPresent() ? 1 : 0);
+          character.location().ifPresent(location -> writeLocation(out, location));
+          return out.toByteArray();
+        }
+
+        @Override
+        public Character decode(byte[] bytes) {
+          Reader in = new Reader(bytes);
+          if (in.readByte() != VERSION) {
+            return null;
+          }
+          return new Character(
+              in.readInteger(),
+              in.readString(),
+              in.readString(),
+              in.readString(),
+              in.readString(),
+              in.readInteger(),
+              in.readByte() == 1 ? Optional.of(readLocation(in)) : Optional.empty());
+        }
+      };
+
+  private DomainCodecs() {}
+
+  private static void writeLocation(Writer out, Location location) {
+    out.writeString(location.name());
+    out.writeString(location.url());
+    out.writeString(location.dimension());
+    CharacterIds residents = location.residents();
+    out.writeVarint(residents.size());
+    int previous = 0;
+    for (int i = 0; i < residents.size(); i++) {
+      int delta = residents.get(i) - previous;
+      out.writeVarint((delta << 1) ^ (delta >> 31));
+      previous = residents.get(i);
+    }
+  }
+
+  private static Location readLocation(Reader in) {
+    String name = in.readString();
+    String url = in.readString();
+    String dimension = in.readString();
+    int[] residents = new int[in.readVarint()];
+    int previous = 0;
+    for (int i = 0; i < residents.length; i++) {
+      int zigzag = in.readVarint();
+      previous += (zigzag >>> 1) ^ -(zigzag & 1);
+      residents[i] = previous;
+    }
+    return new Location(name, url, dimension, CharacterIds.of(residents));
+  }
+
+  private static final class Writer extends ByteArrayOutputStream {
+
+    Writer() {
+      super(64);
+    }
+
+    void writeByte(int value) {
+      write(value);
+    }
+
+    void writeVarint(int value) {
+      while ((value & ~0x7f) != 0) {
+        write((value & 0x7f) | 0x80);
+        value >>>= 7;
+      }
+      write(value);
+    }
+
+    void writeInteger(Integer value) {
+      writeByte(value == null ? 0 : 1);
+      if (value != null) {
+        writeVarint(value);
+      }
+    }
+
+    void writeString(String value) {
+      if (value == null) {
+        writeVarint(0);
+        return;
+      }
+      byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+      writeVarint(utf8.length + 1);
+      write(utf8, 0, utf8.length);
+    }
+  }
+
+  private static final class Reader {
+
+    private final byte[] bytes;
+    private int position;
+
+    Reader(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    int readByte() {
+      return bytes[position++];
+    }
+
+    int readVarint() {
+      int value = 0;
+      for (int shift = 0; ; shift += 7) {
+        byte b = bytes[position++];
+        value |= (b & 0x7f) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+    }
+
+    Integer readInteger() {
+      return readByte() == 1 ? readVarint() : null;
+    }
+
+    String readString() {
+      int length = readVarint() - 1;
+      if (length < 0) {
+        return null;
+      }
+      String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+      position += length;
+      return value;
+    }
+  }
+}
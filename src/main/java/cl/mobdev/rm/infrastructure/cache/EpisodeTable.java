@@ -0,0 +1,149 @@
+package cl.mobdev.rm.infrastructure.cache;
+
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.CoAppearance;
+import cl.mobdev.rm.domain.model.Episode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The whole episode catalog, indexed by numeric ID, and the bipartite character-episode graph over
+ * it. Episodes sit in an array slot per ID and each one holds its cast as an {@code int[]}. The
+ * character to episode side is a compressed sparse row index: the episode IDs of character {@code
+ * c} are {@code episodeIds[offsets[c] .. offsets[c + 1])}, in ascending order. Lookups and graph
+ * walks are array reads with no boxing.
+ */
+public final class EpisodeTable {
+
+  private final Episode[] byId;
+  private final int[] offsets;
+  private final int[] episodeIds;
+  private final int size;
+
+  private EpisodeTable(Episode[] byId, int[] offsets, int[] episodeIds, int size) {
+    this.byId = byId;
+    this.offsets = offsets;
+    this.episodeIds = episodeIds;
+    this.size = size;
+  }
+
+  public static EpisodeTable of(Collection<Episode> episodes) {
+    int maxEpisodeId = 0;
+    int maxCharacterId = 0;
+    for (Episode episode : episodes) {
+      maxEpisodeId = Math.max(maxEpisodeId, episode.id());
+      maxCharacterId = Math.max(maxCharacterId, episode.characters().stream().max().orElse(0));
+    }
+
+    Episode[] byId = new Episode[maxEpisodeId + 1];
+    for (Episode episode : episodes) {
+      byId[episode.id()] = episode;
+    }
+
+    // Count appearances per character, prefix-sum them into offsets, then fill by ascending
+    // episode ID so that each character's row comes out sorted.
+    int[] offsets = new int[maxCharacterId + 2];
+    int size = 0;
+    for (Episode episode : byId) {
+      if (episode == null) {
+        continue;
+      }
+      size++;
+      episode.characters().stream().forEach(character -> offsets[character + 1]++);
+    }
+    for (int i = 1; i < offsets.length; i++) {
+      offsets[i] += offsets[i - 1];
+    }
+    int[] episodeIds = new int[offsets[offsets.length - 1]];
+    int[] cursor = offsets.clone();
+    for (Episode episode : byId) {
+      if (episode != null) {
+        episode
+            .characters()
+            .stream()
+            .forEach(character -> episodeIds[cursor[character]++] = episode.id());
+      }
+    }
+    return new EpisodeTable(byId, offsets, episodeIds, size);
+  }
+
+  /** A new table with {@code added} on top of these episodes; an added ID replaces a known one. */
+  public EpisodeTable with(Collection<Episode> added) {
+    List<Episode> episodes = new ArrayList<>(size + added.size());
+    for (Episode episode : byId) {
+      if (episode != null) {
+        episodes.add(episode);
+      }
+    }
+    episodes.addAll(added);
+    return of(episodes);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public Optional<Episode> get(int id) {
+    return id > 0 && id < byId.length ? Optional.ofNullable(byId[id]) : Optional.empty();
+  }
+
+  /** Episodes in the order of {@code ids}; unknown IDs are skipped. */
+  public List<Episode> getAll(Collection<Integer> ids) {
+    List<Episode> episodes = new ArrayList<>(ids.size());
+    for (int id : ids) {
+      get(id).ifPresent(episodes::add);
+    }
+    return episodes;
+  }
+
+  public List<Episode> episodesOf(int characterId) {
+    if (characterId < 0 || characterId + 1 >= offsets.length) {
+      return List.of();
+    }
+    List<Episode> episodes = new ArrayList<>(offsets[characterId + 1] - offsets[characterId]);
+    for (int i = offsets[characterId]; i < offsets[characterId + 1]; i++) {
+      episodes.add(byId[episodeIds[i]]);
+    }
+    return episodes;
+  }
+
+  /**
+   * The characters that share the most episodes with {@code characterId}, most shared first and
+   * lower IDs first on ties. Counts are accumulated in one {@code int[]} over the character's
+   * episodes, then ranked by sorting (count, id) packed into longs.
+   */
+  public List<CoAppearance> coAppearances(int characterId, int limit) {
+    if (characterId < 0 || characterId + 1 >= offsets.length || limit <= 0) {
+      return List.of();
+    }
+    int[] shared = new int[offsets.length - 1];
+    int candidates = 0;
+    for (int i = offsets[characterId]; i < offsets[characterId + 1]; i++) {
+      CharacterIds cast = byId[episodeIds[i]].characters();
+      for (int j = 0; j < cast.size(); j++) {
+        int other = cast.get(j);
+        if (other != characterId && shared[other]++ == 0) {
+          candidates++;
+        }
+      }
+    }
+
+    long[] ranked = new long[candidates];
+    int next = 0;
+    for (int other = 0; other < shared.length; other++) {
+      if (shared[other] > 0) {
+        ranked[next++] = (long) shared[other] << 32 | (Integer.MAX_VALUE - other);
+      }
+    }
+    Arrays.sort(ranked);
+
+    List<CoAppearance> top = new ArrayList<>(Math.min(limit, candidates));
+    for (int i = ranked.length - 1; i >= 0 && top.size() < limit; i--) {
+      top.add(new CoAppearance(Integer.MAX_VALUE - (int) ranked[i], (int) (ranked[i] >>> 32)));
+    }
+    return top;
+  }
+}
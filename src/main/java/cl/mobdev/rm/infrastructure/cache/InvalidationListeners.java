@@ -0,0 +1,35 @@
+package cl.mobdev.rm.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Callbacks for an in-process cache, called with the upstream ID of every entry that leaves it.
+ * Explicit invalidations notify from the invalidating call; {@link #onEviction} covers the entries
+ * Caffeine drops on its own, on size, on expiry or on replacement.
+ */
+public class InvalidationListeners {
+
+  private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+  public void add(Consumer<String> listener) {
+    listeners.add(listener);
+  }
+
+  public void invalidated(String id) {
+    listeners.forEach(listener -> listener.accept(id));
+  }
+
+  /** A removal listener for the cache builder; explicit removals are left to the caller. */
+  public <K, V> RemovalListener<K, V> onEviction(Function<K, String> idOf) {
+    return (key, value, cause) -> {
+      if (key != null && cause != RemovalCause.EXPLICIT) {
+        invalidated(idOf.apply(key));
+      }
+    };
+  }
+}
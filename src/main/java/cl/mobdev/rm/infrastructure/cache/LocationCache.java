@@ -0,0 +1,124 @@
+package cl.mobdev.rm.infrastructure.cache;
+
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.client.RickAndMortyHttpClient;
+import cl.mobdev.rm.infrastructure.jfr.CacheAccessEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Locations keyed by upstream location ID. A handful of origins are shared by most characters, so
+ * each one is fetched and deserialized once; concurrent misses on the same ID wait on the same
+ * in-flight future. Misses are looked up in the {@link SharedCache} tier before the upstream API.
+ */
+public class LocationCache {
+
+  private static final String CACHE = "locations";
+
+  private final RickAndMortyHttpClient httpClient;
+  private final AsyncCache<String, Location> cache;
+  private final SharedCache<Location> shared;
+  private final InvalidationListeners invalidationListeners;
+
+  public LocationCache(RickAndMortyHttpClient httpClient, AsyncCache<String, Location> cache) {
+    this(httpClient, cache, SharedCache.none());
+  }
+
+  public LocationCache(
+      RickAndMortyHttpClient httpClient,
+      AsyncCache<String, Location> cache,
+      SharedCache<Location> shared) {
+    this(httpClient, cache, shared, new InvalidationListeners());
+  }
+
+  /** {@code invalidationListeners} should also be the cache's removal listener. */
+  public LocationCache(
+      RickAndMortyHttpClient httpClient,
+      AsyncCache<String, Location> cache,
+      SharedCache<Location> shared,
+      InvalidationListeners invalidationListeners) {
+    this.httpClient = httpClient;
+    this.cache = cache;
+    this.shared = shared;
+    this.invalidationListeners = invalidationListeners;
+  }
+
+  public Location get(String locationId) {
+    return CacheAccessEvent.get(
+        CACHE,
+        locationId,
+        miss ->
+            cache.get(
+                locationId,
+                id ->
+                    miss.load(
+                        CACHE,
+                        id,
+                        () ->
+                            shared
+                                .get(id)
+                                .orElseGet(
+                                    () -> {
+                                      Location location = httpClient.getLocation(id);
+                                      shared.put(id, location);
+                                      return location;
+                                    }))));
+  }
+
+  /** Resolves every ID, fetching all misses in a single multi-ID upstream call. */
+  public Map<String, Location> getAll(Collection<String> locationIds) {
+    return CacheAccessEvent.get(
+        CACHE,
+        locationIds,
+        miss ->
+            cache.getAll(locationIds, missing -> miss.load(CACHE, missing, () -> load(missing))));
+  }
+
+  private Map<String, Location> load(Set<? extends String> keys) {
+    List<String> missing = List.copyOf(keys);
+    Map<String, Location> found = new HashMap<>(shared.getAll(missing));
+    List<String> remaining = missing.stream().filter(id -> !found.containsKey(id)).toList();
+    if (!remaining.isEmpty()) {
+      Map<String, Location> fetched =
+          httpClient.getLocations(remaining).stream()
+              .collect(
+                  Collectors.toMap(
+                      location -> idOf(location.url()), location -> location, (a, b) -> a));
+      shared.putAll(fetched);
+      found.putAll(fetched);
+    }
+    return found;
+  }
+
+  /** Drops the location from the shared tier and from the in-process tier of every replica. */
+  public void invalidate(String locationId) {
+    invalidateLocal(locationId);
+    shared.evict(locationId);
+  }
+
+  public void invalidateLocal(String locationId) {
+    cache.synchronous().invalidate(locationId);
+    invalidationListeners.invalidated(locationId);
+  }
+
+  /** Called with the location ID whenever it leaves this replica's in-process tier. */
+  public void addInvalidationListener(Consumer<String> listener) {
+    invalidationListeners.add(listener);
+  }
+
+  public CacheStats stats() {
+    return cache.synchronous().stats();
+  }
+
+  /** The upstream ID at the end of a location URL. */
+  public static String idOf(String url) {
+    return url.substring(url.lastIndexOf('/') + 1);
+  }
+}
@@ -0,0 +1,148 @@
+package cl.mobdev.rm.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+/**
+ * {@link SharedCache} on Redis. Keys are {@code rm:<namespace>:<key>} and values are encoded by a
+ * {@link CacheCodec}. When a Redis call fails the tier steps aside for {@code retryAfter}: lookups
+ * miss and writes are dropped without touching the network, so an outage costs one failed call
+ * per window instead of a connect timeout on every request.
+ */
+@Slf4j
+public class RedisSharedCache<V> implements SharedCache<V> {
+
+  private final String namespace;
+  private final RedisTemplate<String, byte[]> redis;
+  private final CacheCodec<V> codec;
+  private final Duration ttl;
+  private final Duration retryAfter;
+  private final CacheInvalidationBus invalidationBus;
+  private volatile long unavailableUntil;
+
+  public RedisSharedCache(
+      String namespace,
+      RedisTemplate<String, byte[]> redis,
+      CacheCodec<V> codec,
+      Duration ttl,
+      Duration retryAfter,
+      CacheInvalidationBus invalidationBus) {
+    this.namespace = namespace;
+    this.redis = redis;
+    this.codec = codec;
+    this.ttl = ttl;
+    this.retryAfter = retryAfter;
+    this.invalidationBus = invalidationBus;
+    this.unavailableUntil = System.nanoTime();
+  }
+
+  @Override
+  public Optional<V> get(String key) {
+    return Optional.ofNullable(guarded(() -> decode(redis.opsForValue().get(redisKey(key))), null));
+  }
+
+  @Override
+  public Map<String, V> getAll(Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return Map.of();
+    }
+    List<String> requested = List.copyOf(keys);
+    List<byte[]> values =
+        guarded(
+            () -> redis.opsForValue().multiGet(requested.stream().map(this::redisKey).toList()),
+            null);
+    Map<String, V> found = new HashMap<>();
+    for (int i = 0; values != null && i < requested.size(); i++) {
+      V value = decode(values.get(i));
+      if (value != null) {
+        found.put(requested.get(i), value);
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public void put(String key, V value) {
+    putAll(Map.of(key, value));
+  }
+
+  /** Writes every entry with its TTL in one pipelined round trip. */
+  @Override
+  public void putAll(Map<String, V> values) {
+    if (values.isEmpty()) {
+      return;
+    }
+    Expiration expiration = Expiration.from(ttl);
+    guarded(
+        () ->
+            redis.executePipelined(
+                (RedisCallback<Object>)
+                    connection -> {
+                      values.forEach(
+                          (key, value) ->
+                              connection
+                                  .stringCommands()
+                                  .set(
+                                      redisKey(key).getBytes(StandardCharsets.UTF_8),
+                                      codec.encode(value),
+                                      expiration,
+                                      SetOption.upsert()));
+                      return null;
+                    }),
+        null);
+  }
+
+  /** Skipped like any other call while Redis is unavailable; other replicas expire their copy. */
+  @Override
+  public void evict(String key) {
+    guarded(
+        () -> {
+          redis.delete(redisKey(key));
+          invalidationBus.publish(namespace, key);
+          return null;
+        },
+        null);
+  }
+
+  private String redisKey(String key) {
+    return "rm:" + namespace + ":" + key;
+  }
+
+  private V decode(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    try {
+      return codec.decode(bytes);
+    } catch (RuntimeException ex) {
+      log.warn("Ignoring undecodable {} entry in Redis", namespace, ex);
+      return null;
+    }
+  }
+
+  private <T> T guarded(Supplier<T> call, T fallback) {
+    if (System.nanoTime() - unavailableUntil < 0) {
+      return fallback;
+    }
+    try {
+      return call.get();
+    } catch (DataAccessException ex) {
+      unavailableUntil = System.nanoTime() + retryAfter.toNanos();
+      log.warn(
+          "Redis unavailable, serving {} from the local cache for {}", namespace, retryAfter, ex);
+      return fallback;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package cl.mobdev.rm.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Second cache tier shared by every replica, consulted on an in-process miss before the upstream
+ * API. Implementations never fail a lookup: when the tier is unreachable they behave as an empty
+ * cache, so the node keeps serving from its own tier and the upstream.
+ */
+public interface SharedCache<V> {
+
+  Optional<V> get(String key);
+
+  /** The entries found, keyed by the requested key; missing keys are absent. */
+  Map<String, V> getAll(Collection<String> keys);
+
+  void put(String key, V value);
+
+  void putAll(Map<String, V> values);
+
+  /** Removes the entry and tells every replica to drop its in-process copy. */
+  void evict(String key);
+
+  /** The tier used when no shared store is configured. */
+  static <V> SharedCache<V> none() {
+    return new SharedCache<>() {
+      @Override
+      public Optional<V> get(String key) {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, V> getAll(Collection<String> keys) {
+        return Map.of();
+      }
+
+      @Override
+      public void put(String key, V value) {}
+
+      @Override
+      public void putAll(Map<String, V> values) {}
+
+      @Override
+      public void evict(String key) {}
+    };
+  }
+}
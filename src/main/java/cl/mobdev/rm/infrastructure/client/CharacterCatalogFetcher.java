@@ -0,0 +1,70 @@
+package cl.mobdev.rm.infrastructure.client;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.infrastructure.dto.CharacterPageApiDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
+
+/**
+ * Reads the whole upstream character catalog. Page 1 tells how many pages exist; the rest are
+ * fanned out on the I/O executor, with at most {@code concurrency} requests in flight so the
+ * upstream rate limit is respected. Results keep page order.
+ */
+public class CharacterCatalogFetcher {
+
+  private final RickAndMortyHttpClient httpClient;
+  private final ExecutorService executor;
+  private final Semaphore permits;
+
+  public CharacterCatalogFetcher(
+      RickAndMortyHttpClient httpClient, ExecutorService executor, int concurrency) {
+    this.httpClient = httpClient;
+    this.executor = executor;
+    this.permits = new Semaphore(concurrency);
+  }
+
+  public List<Character> fetchAll() {
+    CharacterPageApiDto firstPage = fetchPage(1);
+    int pages = firstPage.info().pages();
+
+    List<Character> catalog = new ArrayList<>(firstPage.info().count());
+    catalog.addAll(firstPage.results());
+
+    List<Future<CharacterPageApiDto>> remaining =
+        IntStream.rangeClosed(2, pages)
+            .mapToObj(page -> executor.submit(() -> fetchPage(page)))
+            .toList();
+    for (Future<CharacterPageApiDto> page : remaining) {
+      catalog.addAll(await(page).results());
+    }
+    return catalog;
+  }
+
+  private CharacterPageApiDto fetchPage(int page) {
+    permits.acquireUninterruptibly();
+    try {
+      return httpClient.getCharacterPage(page);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private static CharacterPageApiDto await(Future<CharacterPageApiDto> page) {
+    try {
+      return page.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while fetching the character catalog", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+}
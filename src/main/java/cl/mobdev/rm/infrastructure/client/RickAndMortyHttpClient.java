@@ -1,29 +1,211 @@
 package cl.mobdev.rm.infrastructure.client;
 
-import cl.mobdev.rm.infrastructure.dto.CharacterApiDto;
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.concurrent.SingleFlight;
+import cl.mobdev.rm.infrastructure.dto.CharacterPageApiDto;
 import cl.mobdev.rm.infrastructure.dto.EpisodeApiDto;
-import cl.mobdev.rm.infrastructure.dto.LocationApiDto;
+import cl.mobdev.rm.infrastructure.dto.EpisodePageApiDto;
+import cl.mobdev.rm.infrastructure.dto.LocationPageApiDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 
+/**
+ * Upstream API calls. Characters and locations are read straight into the domain model by {@link
+ * cl.mobdev.rm.infrastructure.json.UpstreamJsonModule}.
+ */
 @Component
 public class RickAndMortyHttpClient {
 
+  /** Keeps multi-ID request URLs well below common proxy and server limits. */
+  private static final int MAX_IDS_PER_REQUEST = 100;
+
+  /** Upstream latency per resource and final status, retries and backoff included. */
+  static final String TIMER = "rickandmorty.upstream.requests";
+
   private final RestClient restClient;
+  private final SingleFlight singleFlight;
+  private final UpstreamResilience resilience;
+  private final MeterRegistry meterRegistry;
 
-  public RickAndMortyHttpClient(RestClient restClient) {
+  public RickAndMortyHttpClient(
+      RestClient restClient,
+      SingleFlight singleFlight,
+      UpstreamResilience resilience,
+      MeterRegistry meterRegistry) {
     this.restClient = restClient;
+    this.singleFlight = singleFlight;
+    this.resilience = resilience;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public Character getCharacter(String id) {
+    return fetch(
+        "character",
+        id,
+        () -> restClient.get().uri("character/{id}", id).retrieve().body(Character.class));
+  }
+
+  public List<Character> getCharacters(Collection<String> ids) {
+    List<Character> characters = new ArrayList<>(ids.size());
+    for (List<String> chunk : chunks(ids)) {
+      String idList = toIdList(chunk);
+      characters.addAll(
+          fetch(
+              "characters",
+              idList,
+              () ->
+                  restClient
+                      .get()
+                      .uri("character/{ids}", idList)
+                      .retrieve()
+                      .body(new ParameterizedTypeReference<List<Character>>() {})));
+    }
+    return characters;
   }
 
-  public CharacterApiDto getCharacterApiDto(String id) {
-    return restClient.get().uri("character/{id}", id).retrieve().body(CharacterApiDto.class);
+  public CharacterPageApiDto getCharacterPage(int page) {
+    return fetch(
+        "character-page",
+        String.valueOf(page),
+        () ->
+            restClient
+                .get()
+                .uri("character?page={page}", page)
+                .retrieve()
+                .body(CharacterPageApiDto.class));
   }
 
-  public LocationApiDto getLocationApiDto(String id) {
-    return restClient.get().uri("location/{id}", id).retrieve().body(LocationApiDto.class);
+  public Location getLocation(String id) {
+    return fetch(
+        "location",
+        id,
+        () -> restClient.get().uri("location/{id}", id).retrieve().body(Location.class));
+  }
+
+  public LocationPageApiDto getLocationPage(int page) {
+    return fetch(
+        "location-page",
+        String.valueOf(page),
+        () ->
+            restClient
+                .get()
+                .uri("location?page={page}", page)
+                .retrieve()
+                .body(LocationPageApiDto.class));
+  }
+
+  public List<Location> getLocations(Collection<String> ids) {
+    List<Location> locations = new ArrayList<>(ids.size());
+    for (List<String> chunk : chunks(ids)) {
+      String idList = toIdList(chunk);
+      locations.addAll(
+          fetch(
+              "locations",
+              idList,
+              () ->
+                  restClient
+                      .get()
+                      .uri("location/{ids}", idList)
+                      .retrieve()
+                      .body(new ParameterizedTypeReference<List<Location>>() {})));
+    }
+    return locations;
   }
 
   public EpisodeApiDto getEpisodeApiDto(String id) {
-    return restClient.get().uri("episode/{id}", id).retrieve().body(EpisodeApiDto.class);
+    return fetch(
+        "episode",
+        id,
+        () -> restClient.get().uri("episode/{id}", id).retrieve().body(EpisodeApiDto.class));
+  }
+
+  public List<EpisodeApiDto> getEpisodes(Collection<String> ids) {
+    List<EpisodeApiDto> episodes = new ArrayList<>(ids.size());
+    for (List<String> chunk : chunks(ids)) {
+      String idList = toIdList(chunk);
+      episodes.addAll(
+          fetch(
+              "episodes",
+              idList,
+              () ->
+                  restClient
+                      .get()
+                      .uri("episode/{ids}", idList)
+                      .retrieve()
+                      .body(new ParameterizedTypeReference<List<EpisodeApiDto>>() {})));
+    }
+    return episodes;
+  }
+
+  public EpisodePageApiDto getEpisodePage(int page) {
+    return fetch(
+        "episode-page",
+        String.valueOf(page),
+        () ->
+            restClient
+                .get()
+                .uri("episode?page={page}", page)
+                .retrieve()
+                .body(EpisodePageApiDto.class));
+  }
+
+  /**
+   * Coalesces identical in-flight calls, then runs the one real call under the resilience policies,
+   * so concurrent callers share its retries rather than multiplying them. Only that real call is
+   * timed; callers that joined it are not counted again.
+   */
+  private <T> T fetch(String resource, String id, Supplier<T> call) {
+    return singleFlight.execute(resource, id, () -> timed(resource, call));
+  }
+
+  private <T> T timed(String resource, Supplier<T> call) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String status = "200";
+    try {
+      return resilience.call(call);
+    } catch (RuntimeException ex) {
+      status = status(ex);
+      throw ex;
+    } finally {
+      sample.stop(
+          Timer.builder(TIMER)
+              .tag("resource", resource)
+              .tag("status", status)
+              .register(meterRegistry));
+    }
+  }
+
+  private static String status(RuntimeException error) {
+    return switch (error) {
+      case RickAndMortyApiException ex -> String.valueOf(ex.getStatusCode().value());
+      case RestClientResponseException ex -> String.valueOf(ex.getStatusCode().value());
+      case ResourceAccessException ex -> "IO_ERROR";
+      default -> "CLIENT_ERROR";
+    };
+  }
+
+  private static List<List<String>> chunks(Collection<String> ids) {
+    List<String> all = List.copyOf(ids);
+    List<List<String>> chunks = new ArrayList<>();
+    for (int from = 0; from < all.size(); from += MAX_IDS_PER_REQUEST) {
+      chunks.add(all.subList(from, Math.min(from + MAX_IDS_PER_REQUEST, all.size())));
+    }
+    return chunks;
+  }
+
+  /** Upstream array form, e.g. {@code [1,2,3]}; it always answers with a JSON array. */
+  private static String toIdList(Collection<String> ids) {
+    return "[" + String.join(",", ids) + "]";
   }
 }
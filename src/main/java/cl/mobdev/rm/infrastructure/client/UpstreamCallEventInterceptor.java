@@ -0,0 +1,115 @@
+package cl.mobdev.rm.infrastructure.client;
+
+import cl.mobdev.rm.infrastructure.jfr.UpstreamCallEvent;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Emits an {@link UpstreamCallEvent} per exchange. The event ends when the response is closed, so
+ * its duration and byte count include reading the body, where most of a large page's time goes.
+ * Resource and ID come from the path below {@code /api/}, e.g. {@code character} and {@code
+ * [1,2,3]}, or {@code page=2} for a page.
+ */
+public class UpstreamCallEventInterceptor implements ClientHttpRequestInterceptor {
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    UpstreamCallEvent event = new UpstreamCallEvent();
+    if (!event.isEnabled()) {
+      return execution.execute(request, body);
+    }
+    describe(event, request);
+    event.begin();
+    try {
+      ClientHttpResponse response = execution.execute(request, body);
+      event.status = response.getStatusCode().value();
+      return new RecordedResponse(response, event);
+    } catch (IOException | RuntimeException ex) {
+      event.status = -1;
+      event.commit();
+      throw ex;
+    }
+  }
+
+  private static void describe(UpstreamCallEvent event, HttpRequest request) {
+    String path = request.getURI().getPath();
+    int api = path.indexOf("/api/");
+    String relative = api < 0 ? path : path.substring(api + "/api/".length());
+    int slash = relative.indexOf('/');
+    event.resource = slash < 0 ? relative : relative.substring(0, slash);
+    event.id = slash < 0 ? request.getURI().getQuery() : relative.substring(slash + 1);
+  }
+
+  /** Counts body bytes and commits the event on close. */
+  private static final class RecordedResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final UpstreamCallEvent event;
+    private InputStream body;
+    private boolean closed;
+
+    RecordedResponse(ClientHttpResponse delegate, UpstreamCallEvent event) {
+      this.delegate = delegate;
+      this.event = event;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        body =
+            new FilterInputStream(delegate.getBody()) {
+              @Override
+              public int read() throws IOException {
+                int read = super.read();
+                if (read >= 0) {
+                  event.bytes++;
+                }
+                return read;
+              }
+
+              @Override
+              public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read > 0) {
+                  event.bytes += read;
+                }
+                return read;
+              }
+            };
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+      if (!closed) {
+        closed = true;
+        event.commit();
+      }
+    }
+  }
+}
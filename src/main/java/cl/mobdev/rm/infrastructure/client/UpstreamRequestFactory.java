@@ -0,0 +1,68 @@
+package cl.mobdev.rm.infrastructure.client;
+
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Builds the request factory behind the upstream {@code RestClient}: Apache HttpClient with a
+ * bounded keep-alive pool, so calls reuse warm TLS connections instead of opening one each.
+ * HttpClient asks for gzip and decodes it transparently. Every wait is bounded: connecting, leasing
+ * a pooled connection, and each socket read.
+ */
+public final class UpstreamRequestFactory {
+
+  private UpstreamRequestFactory() {}
+
+  /**
+   * @param connectTimeout TCP and TLS handshake
+   * @param readTimeout longest gap between bytes of a response
+   * @param acquireTimeout wait for a free pooled connection when all are leased
+   * @param maxConnections pool size; the upstream is a single route, so also the per-route limit
+   * @param idleTimeout idle connections are closed after this, before the server drops them
+   */
+  public record Settings(
+      Duration connectTimeout,
+      Duration readTimeout,
+      Duration acquireTimeout,
+      int maxConnections,
+      Duration idleTimeout) {}
+
+  public static PoolingHttpClientConnectionManager connectionManager(Settings settings) {
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(settings.maxConnections())
+        .setMaxConnPerRoute(settings.maxConnections())
+        .setDefaultConnectionConfig(
+            ConnectionConfig.custom()
+                .setConnectTimeout(timeout(settings.connectTimeout()))
+                .setSocketTimeout(timeout(settings.readTimeout()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+        .build();
+  }
+
+  public static HttpComponentsClientHttpRequestFactory requestFactory(
+      PoolingHttpClientConnectionManager connectionManager, Settings settings) {
+    return new HttpComponentsClientHttpRequestFactory(
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectionRequestTimeout(timeout(settings.acquireTimeout()))
+                    .setResponseTimeout(timeout(settings.readTimeout()))
+                    .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(settings.idleTimeout().toMillis()))
+            .build());
+  }
+
+  private static Timeout timeout(Duration duration) {
+    return Timeout.ofMilliseconds(duration.toMillis());
+  }
+}
@@ -0,0 +1,126 @@
+package cl.mobdev.rm.infrastructure.client;
+
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Policies around every upstream call, outermost first: retry, circuit breaker, bulkhead. Only
+ * transient failures count: I/O errors and timeouts, 5xx and 429. A 404 is an answer, not an
+ * outage, so it is neither retried nor held against the breaker. Every upstream call is a GET, so
+ * a retry never repeats a side effect.
+ *
+ * <p>An open breaker or a full bulkhead fails the call at once with a 503 instead of queueing it
+ * behind a struggling upstream.
+ */
+public class UpstreamResilience {
+
+  public static final String NAME = "rickandmorty-api";
+
+  /**
+   * @param maxAttempts calls per request, including the first
+   * @param initialBackoff wait before the first retry; doubles per retry, with ±50% jitter
+   * @param maxBackoff cap on a single wait
+   * @param failureRateThreshold percentage of failed calls in the window that opens the breaker
+   * @param slidingWindowSize calls the failure rate is computed over
+   * @param openStateWait how long the breaker stays open before letting trial calls through
+   * @param maxConcurrentCalls upstream calls in flight at once
+   * @param maxBulkheadWait how long a call may wait for a free slot
+   */
+  public record Settings(
+      int maxAttempts,
+      Duration initialBackoff,
+      Duration maxBackoff,
+      float failureRateThreshold,
+      int slidingWindowSize,
+      Duration openStateWait,
+      int maxConcurrentCalls,
+      Duration maxBulkheadWait) {}
+
+  private final Retry retry;
+  private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
+
+  public UpstreamResilience(Retry retry, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+    this.retry = retry;
+    this.circuitBreaker = circuitBreaker;
+    this.bulkhead = bulkhead;
+  }
+
+  public static UpstreamResilience of(Settings settings) {
+    return new UpstreamResilience(
+        Retry.of(NAME, retryConfig(settings)),
+        CircuitBreaker.of(NAME, circuitBreakerConfig(settings)),
+        Bulkhead.of(NAME, bulkheadConfig(settings)));
+  }
+
+  public static RetryConfig retryConfig(Settings settings) {
+    return RetryConfig.custom()
+        .maxAttempts(settings.maxAttempts())
+        .intervalFunction(
+            IntervalFunction.ofExponentialRandomBackoff(
+                settings.initialBackoff(), 2.0, 0.5, settings.maxBackoff()))
+        .retryOnException(UpstreamResilience::isTransient)
+        .build();
+  }
+
+  public static CircuitBreakerConfig circuitBreakerConfig(Settings settings) {
+    return CircuitBreakerConfig.custom()
+        .slidingWindowSize(settings.slidingWindowSize())
+        .minimumNumberOfCalls(settings.slidingWindowSize())
+        .failureRateThreshold(settings.failureRateThreshold())
+        .waitDurationInOpenState(settings.openStateWait())
+        .permittedNumberOfCallsInHalfOpenState(3)
+        .recordException(UpstreamResilience::isTransient)
+        .build();
+  }
+
+  public static BulkheadConfig bulkheadConfig(Settings settings) {
+    return BulkheadConfig.custom()
+        .maxConcurrentCalls(settings.maxConcurrentCalls())
+        .maxWaitDuration(settings.maxBulkheadWait())
+        .build();
+  }
+
+  public <T> T call(Supplier<T> call) {
+    Supplier<T> guarded =
+        Retry.decorateSupplier(
+            retry,
+            CircuitBreaker.decorateSupplier(
+                circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call)));
+    try {
+      return guarded.get();
+    } catch (CallNotPermittedException | BulkheadFullException ex) {
+      throw new RickAndMortyApiException(HttpStatusCode.valueOf(503), ex.getMessage());
+    }
+  }
+
+  public CircuitBreaker.State state() {
+    return circuitBreaker.getState();
+  }
+
+  static boolean isTransient(Throwable error) {
+    if (error instanceof ResourceAccessException) {
+      return true;
+    }
+    HttpStatusCode status =
+        switch (error) {
+          case RickAndMortyApiException ex -> ex.getStatusCode();
+          case RestClientResponseException ex -> ex.getStatusCode();
+          default -> null;
+        };
+    return status != null && (status.is5xxServerError() || status.value() == 429);
+  }
+}
@@ -0,0 +1,28 @@
+package cl.mobdev.rm.infrastructure.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public final class Futures {
+
+  private Futures() {}
+
+  /**
+   * Waits for the future and rethrows the original unchecked failure instead of the {@link
+   * CompletionException} wrapper, so callers see the same exceptions as a direct call.
+   */
+  public static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw ex;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package cl.mobdev.rm.infrastructure.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collapses concurrent identical calls into one. The first caller for a (resource, id) key runs the
+ * call; callers arriving while it is in flight wait for the same result. Nothing is kept once the
+ * call finishes, so failures reach every waiter but are never cached.
+ */
+@Component
+public class SingleFlight implements MeterBinder {
+
+  private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder coalesced = new LongAdder();
+
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String resource, String id, Supplier<T> call) {
+    Key key = new Key(resource, id);
+    CompletableFuture<Object> leader = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+    if (existing != null) {
+      coalesced.increment();
+      return (T) Futures.join(existing);
+    }
+
+    try {
+      T result = call.get();
+      leader.complete(result);
+      return result;
+    } catch (RuntimeException | Error ex) {
+      leader.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, leader);
+    }
+  }
+
+  public long coalescedCalls() {
+    return coalesced.sum();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("rickandmorty.client.coalesced", this, SingleFlight::coalescedCalls)
+        .description("Upstream calls saved by joining an identical in-flight request")
+        .register(registry);
+    Gauge.builder("rickandmorty.client.inflight", inFlight, ConcurrentMap::size)
+        .description("Distinct upstream requests currently in flight")
+        .register(registry);
+  }
+
+  private record Key(String resource, String id) {}
+}
@@ -0,0 +1,23 @@
+package cl.mobdev.rm.infrastructure.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExecutorConfig {
+
+  /**
+   * Fan-out executor for blocking upstream and database I/O. Follows the same switch as the servlet
+   * container, so the whole request path runs on virtual threads or on platform threads.
+   */
+  @Bean(destroyMethod = "close")
+  ExecutorService ioExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtual) {
+    if (virtual) {
+      return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("io-", 0).factory());
+    }
+    return Executors.newCachedThreadPool(Thread.ofPlatform().name("io-", 0).daemon().factory());
+  }
+}
@@ -0,0 +1,108 @@
+package cl.mobdev.rm.infrastructure.config;
+
+import cl.mobdev.rm.application.timing.RequestTiming;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CachingExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.adapter.outbound.RickAndMortyExternalCharacterRepositoryAdapter;
+import cl.mobdev.rm.infrastructure.cache.CacheInvalidationBus;
+import cl.mobdev.rm.infrastructure.cache.InvalidationListeners;
+import cl.mobdev.rm.infrastructure.cache.LocationCache;
+import cl.mobdev.rm.infrastructure.cache.SharedCache;
+import cl.mobdev.rm.infrastructure.client.CharacterCatalogFetcher;
+import cl.mobdev.rm.infrastructure.client.RickAndMortyHttpClient;
+import cl.mobdev.rm.infrastructure.web.CharacterResponseCache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExternalCharacterRepositoryConfig {
+
+  @Value("${rickandmorty.cache.character.maximum-size}")
+  private long characterMaximumSize;
+
+  @Value("${rickandmorty.cache.character.ttl}")
+  private Duration characterTtl;
+
+  @Value("${rickandmorty.cache.location.maximum-size}")
+  private long locationMaximumSize;
+
+  @Value("${rickandmorty.cache.location.ttl}")
+  private Duration locationTtl;
+
+  @Value("${rickandmorty.catalog.concurrency}")
+  private int catalogConcurrency;
+
+  @Bean
+  LocationCache locationCache(
+      RickAndMortyHttpClient httpClient,
+      ExecutorService ioExecutor,
+      MeterRegistry meterRegistry,
+      ObjectProvider<SharedCache<Location>> sharedLocationCache,
+      ObjectProvider<CacheInvalidationBus> cacheInvalidationBus) {
+    InvalidationListeners listeners = new InvalidationListeners();
+    AsyncCache<String, Location> cache =
+        Caffeine.newBuilder()
+            .maximumSize(locationMaximumSize)
+            .expireAfterWrite(locationTtl)
+            .removalListener(listeners.<String, Location>onEviction(id -> id))
+            .executor(RequestTiming.propagating(ioExecutor))
+            .recordStats()
+            .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "locations");
+
+    LocationCache locationCache =
+        new LocationCache(
+            httpClient, cache, sharedLocationCache.getIfAvailable(SharedCache::none), listeners);
+    cacheInvalidationBus.ifAvailable(
+        bus -> bus.register(SharedCacheConfig.LOCATIONS, locationCache::invalidateLocal));
+    return locationCache;
+  }
+
+  @Bean
+  ExternalCharacterRepository externalCharacterRepository(
+      RickAndMortyHttpClient httpClient,
+      LocationCache locationCache,
+      ExecutorService ioExecutor,
+      MeterRegistry meterRegistry,
+      ObjectProvider<SharedCache<Character>> sharedCharacterCache,
+      ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+      CharacterResponseCache characterResponseCache) {
+    InvalidationListeners listeners = new InvalidationListeners();
+    AsyncCache<CachingExternalCharacterRepository.Key, Character> cache =
+        Caffeine.newBuilder()
+            .maximumSize(characterMaximumSize)
+            .expireAfterWrite(characterTtl)
+            .removalListener(
+                listeners.<CachingExternalCharacterRepository.Key, Character>onEviction(
+                    CachingExternalCharacterRepository.Key::id))
+            .executor(RequestTiming.propagating(ioExecutor))
+            .recordStats()
+            .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "characters");
+
+    CachingExternalCharacterRepository repository =
+        new CachingExternalCharacterRepository(
+            new RickAndMortyExternalCharacterRepositoryAdapter(
+                httpClient,
+                locationCache,
+                new CharacterCatalogFetcher(httpClient, ioExecutor, catalogConcurrency)),
+            cache,
+            sharedCharacterCache.getIfAvailable(SharedCache::none),
+            listeners);
+    repository.addInvalidationListener(characterResponseCache::invalidate);
+    locationCache.addInvalidationListener(repository::invalidateLocalByOrigin);
+    cacheInvalidationBus.ifAvailable(
+        bus -> bus.register(SharedCacheConfig.CHARACTERS, repository::invalidateLocal));
+    return repository;
+  }
+}
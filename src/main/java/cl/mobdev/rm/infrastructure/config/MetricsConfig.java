@@ -0,0 +1,28 @@
+package cl.mobdev.rm.infrastructure.config;
+
+import cl.mobdev.rm.infrastructure.adapter.outbound.RickAndMortyExternalEpisodeRepositoryAdapter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Meters that have no auto-configuration. Request timers ({@code http.server.requests}), Hikari
+ * pool gauges ({@code hikaricp.connections.*}) and JVM meters come from Spring Boot; the Caffeine
+ * caches are bound where they are built, and upstream and repository timers where they are
+ * recorded.
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  MeterBinder episodeTableMetrics(RickAndMortyExternalEpisodeRepositoryAdapter episodeRepository) {
+    return registry ->
+        Gauge.builder(
+                "rickandmorty.episodes.cached",
+                episodeRepository,
+                RickAndMortyExternalEpisodeRepositoryAdapter::cachedEpisodes)
+            .description("Episodes held in the in-memory episode table")
+            .register(registry);
+  }
+}
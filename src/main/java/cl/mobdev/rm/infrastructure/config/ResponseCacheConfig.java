@@ -0,0 +1,39 @@
+package cl.mobdev.rm.infrastructure.config;
+
+import cl.mobdev.rm.infrastructure.web.CharacterResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class ResponseCacheConfig {
+
+  @Value("${rickandmorty.cache.response.maximum-weight}")
+  private DataSize maximumWeight;
+
+  @Value("${rickandmorty.cache.response.ttl}")
+  private Duration ttl;
+
+  @Bean
+  CharacterResponseCache characterResponseCache(
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    Cache<String, Map<String, CharacterResponseCache.Rendered>> cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumWeight.toBytes())
+            .<String, Map<String, CharacterResponseCache.Rendered>>weigher(
+                CharacterResponseCache::weight)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "character-responses");
+    return new CharacterResponseCache(objectMapper, cache);
+  }
+}
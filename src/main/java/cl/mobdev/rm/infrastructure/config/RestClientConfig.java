@@ -1,11 +1,14 @@
 package cl.mobdev.rm.infrastructure.config;
 
 import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.infrastructure.client.UpstreamCallEventInterceptor;
+import cl.mobdev.rm.infrastructure.json.UpstreamJsonModule;
 import java.nio.charset.StandardCharsets;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestClient;
 
@@ -16,9 +19,12 @@ public class RestClientConfig {
   private String baseUrl;
 
   @Bean
-  RestClient rickAndMortyRestClient() {
+  RestClient rickAndMortyRestClient(ClientHttpRequestFactory upstreamRequestFactory) {
     return RestClient.builder()
         .baseUrl(baseUrl)
+        .requestFactory(upstreamRequestFactory)
+        .requestInterceptor(new UpstreamCallEventInterceptor())
+        .messageConverters(converters -> converters.add(0, UpstreamJsonModule.messageConverter()))
         .defaultStatusHandler(
             HttpStatusCode::isError,
             (req, res) -> {
@@ -0,0 +1,88 @@
+package cl.mobdev.rm.infrastructure.config;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.cache.CacheInvalidationBus;
+import cl.mobdev.rm.infrastructure.cache.DomainCodecs;
+import cl.mobdev.rm.infrastructure.cache.RedisSharedCache;
+import cl.mobdev.rm.infrastructure.cache.SharedCache;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis tier shared by all replicas, behind each replica's Caffeine caches. Without it, {@link
+ * ExternalCharacterRepositoryConfig} falls back to {@link SharedCache#none()}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "rickandmorty.cache.redis.enabled", havingValue = "true")
+public class SharedCacheConfig {
+
+  static final String CHARACTERS = "characters";
+  static final String LOCATIONS = "locations";
+
+  @Value("${rickandmorty.cache.redis.ttl}")
+  private Duration ttl;
+
+  @Value("${rickandmorty.cache.redis.retry-after}")
+  private Duration retryAfter;
+
+  @Bean
+  RedisTemplate<String, byte[]> sharedCacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+    RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(RedisSerializer.string());
+    template.setValueSerializer(RedisSerializer.byteArray());
+    template.setEnableDefaultSerializer(false);
+    return template;
+  }
+
+  @Bean
+  CacheInvalidationBus cacheInvalidationBus(
+      RedisTemplate<String, byte[]> sharedCacheRedisTemplate) {
+    return new CacheInvalidationBus(sharedCacheRedisTemplate);
+  }
+
+  @Bean
+  RedisMessageListenerContainer cacheInvalidationListener(
+      RedisConnectionFactory connectionFactory, CacheInvalidationBus cacheInvalidationBus) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+    return container;
+  }
+
+  @Bean
+  SharedCache<Character> sharedCharacterCache(
+      RedisTemplate<String, byte[]> sharedCacheRedisTemplate,
+      CacheInvalidationBus cacheInvalidationBus) {
+    return new RedisSharedCache<>(
+        CHARACTERS,
+        sharedCacheRedisTemplate,
+        DomainCodecs.CHARACTER,
+        ttl,
+        retryAfter,
+        cacheInvalidationBus);
+  }
+
+  @Bean
+  SharedCache<Location> sharedLocationCache(
+      RedisTemplate<String, byte[]> sharedCacheRedisTemplate,
+      CacheInvalidationBus cacheInvalidationBus) {
+    return new RedisSharedCache<>(
+        LOCATIONS,
+        sharedCacheRedisTemplate,
+        DomainCodecs.LOCATION,
+        ttl,
+        retryAfter,
+        cacheInvalidationBus);
+  }
+}
@@ -0,0 +1,54 @@
+package cl.mobdev.rm.infrastructure.config;
+
+import cl.mobdev.rm.infrastructure.client.UpstreamRequestFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+@Configuration
+public class UpstreamHttpClientConfig {
+
+  @Value("${rickandmorty.http.connect-timeout}")
+  private Duration connectTimeout;
+
+  @Value("${rickandmorty.http.read-timeout}")
+  private Duration readTimeout;
+
+  @Value("${rickandmorty.http.pool.acquire-timeout}")
+  private Duration acquireTimeout;
+
+  @Value("${rickandmorty.http.pool.max-connections}")
+  private int maxConnections;
+
+  @Value("${rickandmorty.http.pool.idle-timeout}")
+  private Duration idleTimeout;
+
+  @Bean(destroyMethod = "close")
+  PoolingHttpClientConnectionManager upstreamConnectionManager() {
+    return UpstreamRequestFactory.connectionManager(settings());
+  }
+
+  @Bean
+  ClientHttpRequestFactory upstreamRequestFactory(
+      PoolingHttpClientConnectionManager upstreamConnectionManager) {
+    return UpstreamRequestFactory.requestFactory(upstreamConnectionManager, settings());
+  }
+
+  /** Leased, available and pending connections as {@code httpcomponents.httpclient.pool.*}. */
+  @Bean
+  MeterBinder upstreamConnectionPoolMetrics(
+      PoolingHttpClientConnectionManager upstreamConnectionManager) {
+    return new PoolingHttpClientConnectionManagerMetricsBinder(
+        upstreamConnectionManager, "rickandmorty-api");
+  }
+
+  private UpstreamRequestFactory.Settings settings() {
+    return new UpstreamRequestFactory.Settings(
+        connectTimeout, readTimeout, acquireTimeout, maxConnections, idleTimeout);
+  }
+}
@@ -0,0 +1,73 @@
+package cl.mobdev.rm.infrastructure.config;
+
+import cl.mobdev.rm.infrastructure.client.UpstreamResilience;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UpstreamResilienceConfig {
+
+  @Value("${rickandmorty.api.retry.max-attempts}")
+  private int maxAttempts;
+
+  @Value("${rickandmorty.api.retry.delay}")
+  private Duration initialBackoff;
+
+  @Value("${rickandmorty.api.retry.max-delay}")
+  private Duration maxBackoff;
+
+  @Value("${rickandmorty.api.circuit-breaker.failure-rate-threshold}")
+  private float failureRateThreshold;
+
+  @Value("${rickandmorty.api.circuit-breaker.sliding-window-size}")
+  private int slidingWindowSize;
+
+  @Value("${rickandmorty.api.circuit-breaker.open-state-wait}")
+  private Duration openStateWait;
+
+  @Value("${rickandmorty.api.bulkhead.max-concurrent-calls}")
+  private int maxConcurrentCalls;
+
+  @Value("${rickandmorty.api.bulkhead.max-wait}")
+  private Duration maxBulkheadWait;
+
+  /**
+   * Metrics: {@code resilience4j.retry.calls}, {@code resilience4j.circuitbreaker.state} and
+   * {@code .calls}, {@code resilience4j.bulkhead.available.concurrent.calls}, tagged with the name
+   * {@value UpstreamResilience#NAME}.
+   */
+  @Bean
+  UpstreamResilience upstreamResilience(MeterRegistry meterRegistry) {
+    UpstreamResilience.Settings settings =
+        new UpstreamResilience.Settings(
+            maxAttempts,
+            initialBackoff,
+            maxBackoff,
+            failureRateThreshold,
+            slidingWindowSize,
+            openStateWait,
+            maxConcurrentCalls,
+            maxBulkheadWait);
+    RetryRegistry retries = RetryRegistry.of(UpstreamResilience.retryConfig(settings));
+    CircuitBreakerRegistry circuitBreakers =
+        CircuitBreakerRegistry.of(UpstreamResilience.circuitBreakerConfig(settings));
+    BulkheadRegistry bulkheads = BulkheadRegistry.of(UpstreamResilience.bulkheadConfig(settings));
+    TaggedRetryMetrics.ofRetryRegistry(retries).bindTo(meterRegistry);
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+    TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+
+    return new UpstreamResilience(
+        retries.retry(UpstreamResilience.NAME),
+        circuitBreakers.circuitBreaker(UpstreamResilience.NAME),
+        bulkheads.bulkhead(UpstreamResilience.NAME));
+  }
+}
@@ -0,0 +1,8 @@
+package cl.mobdev.rm.infrastructure.dto;
+
+import cl.mobdev.rm.domain.model.Character;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CharacterPageApiDto(PageInfoApiDto info, List<Character> results) {}
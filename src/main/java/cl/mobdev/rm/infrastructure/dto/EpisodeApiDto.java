@@ -1,11 +1,14 @@
 package cl.mobdev.rm.infrastructure.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record EpisodeApiDto(
     String id,
     String name,
-    String airDate,
+    @JsonProperty("air_date") String airDate,
     String episode,
     String url,
     String created,
@@ -0,0 +1,7 @@
+package cl.mobdev.rm.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record EpisodePageApiDto(PageInfoApiDto info, List<EpisodeApiDto> results) {}
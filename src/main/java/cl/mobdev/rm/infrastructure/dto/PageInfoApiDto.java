@@ -0,0 +1,6 @@
+package cl.mobdev.rm.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PageInfoApiDto(int count, int pages, String next, String prev) {}
@@ -0,0 +1,78 @@
+package cl.mobdev.rm.infrastructure.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Progress of the catalog mirror for one upstream resource, committed after every page. */
+@Entity
+@Table(name = "catalog_sync_state")
+@Data
+@NoArgsConstructor
+public class CatalogSyncStateEntity {
+
+  public enum Status {
+    RUNNING,
+    COMPLETED
+  }
+
+  @Id private String resource;
+
+  @Enumerated(EnumType.STRING)
+  private Status status;
+
+  private int upstreamCount;
+  private int totalPages;
+  private int lastPage;
+  private long rowsProcessed;
+  private long rowsWritten;
+  private Instant startedAt;
+  private Instant updatedAt;
+
+  /** When this run started and the rows it found processed; a resumed run starts mid-sync. */
+  private Instant runStartedAt;
+
+  @Column(columnDefinition = "bigint not null default 0")
+  private long rowsBeforeRun;
+
+  public CatalogSyncStateEntity(String resource) {
+    this.resource = resource;
+  }
+
+  public boolean canResume(int currentUpstreamCount) {
+    return status == Status.RUNNING && lastPage > 0 && upstreamCount == currentUpstreamCount;
+  }
+
+  public void start(int count, int pages) {
+    status = Status.RUNNING;
+    upstreamCount = count;
+    totalPages = pages;
+    lastPage = 0;
+    rowsProcessed = 0;
+    rowsWritten = 0;
+    startedAt = Instant.now();
+    updatedAt = startedAt;
+    runStartedAt = startedAt;
+    rowsBeforeRun = 0;
+  }
+
+  /** Continues an interrupted sync; the time it spent stopped does not count towards rows/s. */
+  public void resume() {
+    runStartedAt = Instant.now();
+    rowsBeforeRun = rowsProcessed;
+    updatedAt = runStartedAt;
+  }
+
+  public void pageDone(int page, int processed, int written) {
+    lastPage = page;
+    rowsProcessed += processed;
+    rowsWritten += written;
+    updatedAt = Instant.now();
+  }
+
+  public void complete() {
+    status = Status.COMPLETED;
+    updatedAt = Instant.now();
+  }
+}
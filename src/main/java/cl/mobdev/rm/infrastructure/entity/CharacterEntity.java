@@ -1,12 +1,16 @@
 package cl.mobdev.rm.infrastructure.entity;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "characters")
+@Table(
+    name = "characters",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_characters_api_character_id", columnNames = "api_character_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,7 +31,16 @@ public class CharacterEntity {
 
   Integer episodeCount;
 
-  @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+  /**
+   * When the row was last copied from the upstream API; null for rows created through POST, which
+   * are never overwritten by upstream copies.
+   */
+  Instant fetchedAt;
+
+  /** Hash of the mirrored upstream fields, used by the catalog mirror to skip unchanged rows. */
+  Long contentHash;
+
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "location_id")
   LocationEntity location;
 }
@@ -1,12 +1,15 @@
 package cl.mobdev.rm.infrastructure.entity;
 
 import jakarta.persistence.*;
-import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
+/** One row per upstream location, shared by every character that references it by URL. */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_location_entity_url", columnNames = "url"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,9 +21,10 @@ public class LocationEntity {
   private String name;
   private String url;
   private String dimension;
+  private Long contentHash;
 
-  @ElementCollection
-  @CollectionTable(name = "location_residents", joinColumns = @JoinColumn(name = "location_id"))
-  @Column(name = "resident_url")
-  private List<String> residents;
+  /** Upstream character IDs of the residents, stored as a Postgres integer[]. */
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(name = "resident_ids", columnDefinition = "integer[]")
+  private int[] residentIds;
 }
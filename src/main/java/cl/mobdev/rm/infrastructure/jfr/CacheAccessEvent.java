@@ -0,0 +1,85 @@
+package cl.mobdev.rm.infrastructure.jfr;
+
+import cl.mobdev.rm.infrastructure.concurrent.Futures;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A cache lookup, from the call to the value being available. A hit is recorded only when it takes
+ * longer than the threshold, so hits stay out of an always-on recording unless something stalls
+ * them.
+ */
+@Name("cl.mobdev.rm.CacheAccess")
+@Label("Cache Access")
+@Category({"Rick and Morty", "Cache"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class CacheAccessEvent extends jdk.jfr.Event {
+
+  @Label("Cache")
+  public String cache;
+
+  @Label("Key")
+  public String key;
+
+  @Label("Hit")
+  @Description("False when this lookup ran the loader")
+  public boolean hit;
+
+  /**
+   * Runs an async cache lookup and waits for it. The lookup's loader must run through the {@link
+   * Miss} it is handed; the access is a hit unless it did.
+   */
+  public static <V> V get(String cache, Object key, Function<Miss, CompletableFuture<V>> lookup) {
+    CacheAccessEvent event = new CacheAccessEvent();
+    Miss miss = new Miss();
+    event.begin();
+    try {
+      return Futures.join(lookup.apply(miss));
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.cache = cache;
+        event.key = String.valueOf(key);
+        event.hit = !miss.loaded;
+        event.commit();
+      }
+    }
+  }
+
+  /** Runs a synchronous lookup that returns null on a miss. */
+  public static <V> V getIfPresent(String cache, Object key, Supplier<V> lookup) {
+    CacheAccessEvent event = new CacheAccessEvent();
+    event.begin();
+    V value = lookup.get();
+    event.end();
+    if (event.shouldCommit()) {
+      event.cache = cache;
+      event.key = String.valueOf(key);
+      event.hit = value != null;
+      event.commit();
+    }
+    return value;
+  }
+
+  /** Marks the lookup it was handed as a miss when the cache calls its loader. */
+  public static final class Miss {
+
+    private volatile boolean loaded;
+
+    private Miss() {}
+
+    /** Runs the loader, on whichever thread the cache loads on, inside a {@link CacheLoadEvent}. */
+    public <V> V load(String cache, Object key, Supplier<V> loader) {
+      loaded = true;
+      return CacheLoadEvent.load(cache, key, loader);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package cl.mobdev.rm.infrastructure.jfr;
+
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A cache miss being filled: shared tier, upstream call or rendering, on the loading thread. Loads
+ * answered by the shared tier usually finish under the threshold and are not recorded.
+ */
+@Name("cl.mobdev.rm.CacheLoad")
+@Label("Cache Load")
+@Category({"Rick and Morty", "Cache"})
+@StackTrace(false)
+@Threshold("5 ms")
+public class CacheLoadEvent extends jdk.jfr.Event {
+
+  @Label("Cache")
+  public String cache;
+
+  @Label("Key")
+  @Description("Key loaded, or the list of keys of a bulk load")
+  public String key;
+
+  @Label("Succeeded")
+  public boolean succeeded;
+
+  public static <V> V load(String cache, Object key, Supplier<V> loader) {
+    CacheLoadEvent event = new CacheLoadEvent();
+    event.begin();
+    try {
+      V value = loader.get();
+      event.succeeded = true;
+      return value;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.cache = cache;
+        event.key = String.valueOf(key);
+        event.commit();
+      }
+    }
+  }
+}
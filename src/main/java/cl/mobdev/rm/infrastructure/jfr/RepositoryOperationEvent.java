@@ -0,0 +1,28 @@
+package cl.mobdev.rm.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A save or lookup of a stored character, including its transaction work. Recorded when slower
+ * than the threshold, so the always-on recording keeps only the slow ones.
+ */
+@Name("cl.mobdev.rm.RepositoryOperation")
+@Label("Repository Operation")
+@Category({"Rick and Morty", "Persistence"})
+@StackTrace(false)
+@Threshold("10 ms")
+public class RepositoryOperationEvent extends jdk.jfr.Event {
+
+  @Label("Operation")
+  public String operation;
+
+  @Label("Character ID")
+  public int characterId;
+
+  @Label("Succeeded")
+  public boolean succeeded;
+}
@@ -0,0 +1,39 @@
+package cl.mobdev.rm.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One HTTP exchange with the upstream API; every retry attempt is its own event. Only exchanges
+ * slower than the threshold are recorded; a recording can lower it with {@code
+ * cl.mobdev.rm.UpstreamCall#threshold=0 ms}.
+ */
+@Name("cl.mobdev.rm.UpstreamCall")
+@Label("Upstream Call")
+@Category({"Rick and Morty", "Upstream"})
+@Description("HTTP exchange with the Rick and Morty API, until its response body is closed")
+@StackTrace(false)
+@Threshold("20 ms")
+public class UpstreamCallEvent extends jdk.jfr.Event {
+
+  @Label("Resource")
+  public String resource;
+
+  @Label("ID")
+  @Description("IDs or page requested, as they appear in the URL")
+  public String id;
+
+  @Label("Status")
+  @Description("HTTP status, or -1 when no response arrived")
+  public int status;
+
+  @Label("Bytes")
+  @DataAmount
+  @Description("Response body bytes read, after content decoding")
+  public long bytes;
+}
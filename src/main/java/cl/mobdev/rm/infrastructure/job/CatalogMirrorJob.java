@@ -0,0 +1,175 @@
+package cl.mobdev.rm.infrastructure.job;
+
+import cl.mobdev.rm.application.dto.CatalogSyncStatusResponse;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CatalogMirrorJdbcWriter;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CatalogSyncStateJpaRepository;
+import cl.mobdev.rm.infrastructure.client.RickAndMortyHttpClient;
+import cl.mobdev.rm.infrastructure.dto.CharacterPageApiDto;
+import cl.mobdev.rm.infrastructure.dto.LocationPageApiDto;
+import cl.mobdev.rm.infrastructure.dto.PageInfoApiDto;
+import cl.mobdev.rm.infrastructure.entity.CatalogSyncStateEntity;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Mirrors the upstream location and character catalogs into Postgres. Locations go first so that
+ * characters can reference their origin row. Each page is written and its progress committed in
+ * one transaction, so a crashed run resumes after the last committed page as long as the upstream
+ * count has not changed in between. A completed run publishes a {@link CatalogRefreshedEvent} with
+ * the rows it changed.
+ */
+@Slf4j
+@Component
+public class CatalogMirrorJob {
+
+  private static final String LOCATIONS = "locations";
+  private static final String CHARACTERS = "characters";
+
+  private final RickAndMortyHttpClient httpClient;
+  private final CatalogMirrorJdbcWriter writer;
+  private final CatalogSyncStateJpaRepository stateRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  public CatalogMirrorJob(
+      RickAndMortyHttpClient httpClient,
+      CatalogMirrorJdbcWriter writer,
+      CatalogSyncStateJpaRepository stateRepository,
+      TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher eventPublisher) {
+    this.httpClient = httpClient;
+    this.writer = writer;
+    this.stateRepository = stateRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Scheduled(cron = "${rickandmorty.mirror.cron}", zone = "UTC")
+  public void scheduledRun() {
+    run();
+  }
+
+  /** Runs a sync unless one is already in progress; returns whether this call ran it. */
+  public boolean run() {
+    if (!running.compareAndSet(false, true)) {
+      return false;
+    }
+    try {
+      Set<String> changedLocations =
+          mirror(
+              LOCATIONS,
+              page -> toPage(httpClient.getLocationPage(page)),
+              writer::upsertLocations);
+      Set<Integer> changedCharacters =
+          mirror(
+              CHARACTERS,
+              page -> toPage(httpClient.getCharacterPage(page)),
+              writer::upsertCharacters);
+      changedCharacters.addAll(writer.charactersFrom(changedLocations));
+      eventPublisher.publishEvent(
+          new CatalogRefreshedEvent(Instant.now(), changedCharacters, changedLocations));
+      return true;
+    } catch (RuntimeException ex) {
+      log.error("Catalog mirror stopped; the next run resumes from the last committed page", ex);
+      return true;
+    } finally {
+      running.set(false);
+    }
+  }
+
+  public boolean isRunning() {
+    return running.get();
+  }
+
+  public List<CatalogSyncStatusResponse> status() {
+    return stateRepository.findAll().stream().map(CatalogMirrorJob::toResponse).toList();
+  }
+
+  /** Mirrors every remaining page and returns the keys of the rows this call wrote. */
+  private <T, K> Set<K> mirror(
+      String resource, IntFunction<Page<T>> pages, Function<List<T>, List<K>> pageWriter) {
+    CatalogSyncStateEntity state =
+        stateRepository.findById(resource).orElseGet(() -> new CatalogSyncStateEntity(resource));
+    Page<T> firstPage = pages.apply(1);
+    PageInfoApiDto info = firstPage.info();
+
+    if (state.canResume(info.count())) {
+      log.info("Resuming {} mirror after page {}", resource, state.getLastPage());
+      state.resume();
+    } else {
+      state.start(info.count(), info.pages());
+    }
+
+    Set<K> changed = new HashSet<>();
+    for (int number = state.getLastPage() + 1; number <= info.pages(); number++) {
+      Page<T> page = number == 1 ? firstPage : pages.apply(number);
+      int pageNumber = number;
+      transactionTemplate.executeWithoutResult(
+          tx -> {
+            List<K> written = pageWriter.apply(page.results());
+            state.pageDone(pageNumber, page.results().size(), written.size());
+            stateRepository.save(state);
+            changed.addAll(written);
+          });
+    }
+
+    state.complete();
+    stateRepository.save(state);
+    log.info(
+        "Mirrored {}: {} rows read, {} written, {} rows/s",
+        resource,
+        state.getRowsProcessed(),
+        state.getRowsWritten(),
+        Math.round(rowsPerSecond(state)));
+    return changed;
+  }
+
+  private static CatalogSyncStatusResponse toResponse(CatalogSyncStateEntity state) {
+    return new CatalogSyncStatusResponse(
+        state.getResource(),
+        state.getStatus().name(),
+        state.getUpstreamCount(),
+        state.getLastPage(),
+        state.getTotalPages(),
+        state.getRowsProcessed(),
+        state.getRowsWritten(),
+        rowsPerSecond(state),
+        state.getStartedAt(),
+        state.getUpdatedAt());
+  }
+
+  /** Rows per second of the current run, so a resumed run does not count the gap before it. */
+  private static double rowsPerSecond(CatalogSyncStateEntity state) {
+    Instant from = state.getRunStartedAt() != null ? state.getRunStartedAt() : state.getStartedAt();
+    if (from == null || state.getUpdatedAt() == null) {
+      return 0;
+    }
+    long millis = Duration.between(from, state.getUpdatedAt()).toMillis();
+    long rows = state.getRowsProcessed() - state.getRowsBeforeRun();
+    return millis == 0 ? 0 : rows * 1000.0 / millis;
+  }
+
+  private static Page<Location> toPage(LocationPageApiDto page) {
+    return new Page<>(page.info(), page.results());
+  }
+
+  private static Page<Character> toPage(CharacterPageApiDto page) {
+    return new Page<>(page.info(), page.results());
+  }
+
+  private record Page<T>(PageInfoApiDto info, List<T> results) {}
+}
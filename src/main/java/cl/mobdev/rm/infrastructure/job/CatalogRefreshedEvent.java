@@ -0,0 +1,12 @@
+package cl.mobdev.rm.infrastructure.job;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Published when a catalog mirror run has gone through every page of the upstream catalog. It
+ * carries what this run wrote: the changed characters, including those whose origin changed, and
+ * the changed location URLs. Pages committed by an interrupted earlier run are not included.
+ */
+public record CatalogRefreshedEvent(
+    Instant completedAt, Set<Integer> changedCharacterIds, Set<String> changedLocationUrls) {}
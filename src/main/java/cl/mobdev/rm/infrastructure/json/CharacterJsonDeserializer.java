@@ -0,0 +1,92 @@
+package cl.mobdev.rm.infrastructure.json;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Reads an upstream character straight into {@link Character}. The episode URLs are counted
+ * without being decoded, and fields the domain does not use are skipped token by token. The origin
+ * comes back as a partial {@link Location} holding only its name and URL; the adapter replaces it
+ * with the full location.
+ */
+class CharacterJsonDeserializer extends StdDeserializer<Character> {
+
+  CharacterJsonDeserializer() {
+    super(Character.class);
+  }
+
+  @Override
+  public Character deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!p.isExpectedStartObjectToken() && !p.hasToken(JsonToken.FIELD_NAME)) {
+      return (Character) ctxt.handleUnexpectedToken(Character.class, p);
+    }
+
+    Integer id = null;
+    String name = null;
+    String status = null;
+    String species = null;
+    String type = null;
+    int episodeCount = 0;
+    Location origin = null;
+
+    String field = p.isExpectedStartObjectToken() ? p.nextFieldName() : p.currentName();
+    for (; field != null; field = p.nextFieldName()) {
+      JsonToken token = p.nextToken();
+      switch (field) {
+        case "id" -> id = token == JsonToken.VALUE_NULL ? null : p.getIntValue();
+        case "name" -> name = p.getValueAsString();
+        case "status" -> status = p.getValueAsString();
+        case "species" -> species = p.getValueAsString();
+        case "type" -> type = p.getValueAsString();
+        case "episode" -> episodeCount = countElements(p);
+        case "origin" -> origin = readOrigin(p);
+        default -> p.skipChildren();
+      }
+    }
+
+    return new Character(
+        id, name, status, species, type, episodeCount, Optional.ofNullable(origin));
+  }
+
+  private static int countElements(JsonParser p) throws IOException {
+    if (!p.isExpectedStartArrayToken()) {
+      p.skipChildren();
+      return 0;
+    }
+    int count = 0;
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      p.skipChildren();
+      count++;
+    }
+    return count;
+  }
+
+  /** Returns null for the "unknown" origin, which upstream sends with an empty URL. */
+  private static Location readOrigin(JsonParser p) throws IOException {
+    if (!p.isExpectedStartObjectToken()) {
+      p.skipChildren();
+      return null;
+    }
+    String name = null;
+    String url = null;
+    for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+      p.nextToken();
+      switch (field) {
+        case "name" -> name = p.getValueAsString();
+        case "url" -> url = p.getValueAsString();
+        default -> p.skipChildren();
+      }
+    }
+    if (url == null || url.isBlank()) {
+      return null;
+    }
+    return new Location(name, url, null, CharacterIds.empty());
+  }
+}
@@ -0,0 +1,87 @@
+package cl.mobdev.rm.infrastructure.json;
+
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Reads an upstream location straight into {@link Location}. Resident IDs are parsed from the
+ * parser's character buffer, so no URL string is created for them.
+ */
+class LocationJsonDeserializer extends StdDeserializer<Location> {
+
+  LocationJsonDeserializer() {
+    super(Location.class);
+  }
+
+  @Override
+  public Location deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!p.isExpectedStartObjectToken() && !p.hasToken(JsonToken.FIELD_NAME)) {
+      return (Location) ctxt.handleUnexpectedToken(Location.class, p);
+    }
+
+    String name = null;
+    String url = null;
+    String dimension = null;
+    CharacterIds residents = CharacterIds.empty();
+
+    String field = p.isExpectedStartObjectToken() ? p.nextFieldName() : p.currentName();
+    for (; field != null; field = p.nextFieldName()) {
+      p.nextToken();
+      switch (field) {
+        case "name" -> name = p.getValueAsString();
+        case "url" -> url = p.getValueAsString();
+        case "dimension" -> dimension = p.getValueAsString();
+        case "residents" -> residents = readResidentIds(p);
+        default -> p.skipChildren();
+      }
+    }
+
+    return new Location(name, url, dimension, residents);
+  }
+
+  private static CharacterIds readResidentIds(JsonParser p) throws IOException {
+    if (!p.isExpectedStartArrayToken()) {
+      p.skipChildren();
+      return CharacterIds.empty();
+    }
+    int[] ids = new int[16];
+    int size = 0;
+    for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+      if (token != JsonToken.VALUE_STRING) {
+        p.skipChildren();
+        continue;
+      }
+      int id = trailingId(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+      if (id >= 0) {
+        if (size == ids.length) {
+          ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+      }
+    }
+    return CharacterIds.of(Arrays.copyOf(ids, size));
+  }
+
+  /** The digits after the last '/', or -1 when there are none. */
+  private static int trailingId(char[] text, int offset, int length) {
+    int end = offset + length;
+    int start = end;
+    while (start > offset && text[start - 1] >= '0' && text[start - 1] <= '9') {
+      start--;
+    }
+    if (start == end || end - start > 9 || (start > offset && text[start - 1] != '/')) {
+      return -1;
+    }
+    int id = 0;
+    for (int i = start; i < end; i++) {
+      id = id * 10 + (text[i] - '0');
+    }
+    return id;
+  }
+}
@@ -0,0 +1,26 @@
+package cl.mobdev.rm.infrastructure.json;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Streaming deserializers for the upstream character and location payloads. It is registered only
+ * on the upstream client, never on the application's own ObjectMapper.
+ */
+public class UpstreamJsonModule extends SimpleModule {
+
+  public UpstreamJsonModule() {
+    super("rickandmorty-upstream");
+    addDeserializer(Character.class, new CharacterJsonDeserializer());
+    addDeserializer(Location.class, new LocationJsonDeserializer());
+  }
+
+  /** A JSON converter for the upstream RestClient, with this module on top of the defaults. */
+  public static MappingJackson2HttpMessageConverter messageConverter() {
+    return new MappingJackson2HttpMessageConverter(
+        Jackson2ObjectMapperBuilder.json().modulesToInstall(new UpstreamJsonModule()).build());
+  }
+}
@@ -1,10 +1,10 @@
 package cl.mobdev.rm.infrastructure.mapper;
 
 import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
 import cl.mobdev.rm.domain.model.Location;
 import cl.mobdev.rm.infrastructure.entity.CharacterEntity;
 import cl.mobdev.rm.infrastructure.entity.LocationEntity;
-import java.util.List;
 import java.util.Optional;
 
 public final class CharacterDomainMapper {
@@ -36,23 +36,21 @@ public final class CharacterDomainMapper {
     }
 
     CharacterEntity entity = new CharacterEntity();
+    copyToEntity(character, entity);
+    return entity;
+  }
+
+  /**
+   * Copies the domain state onto an entity, which may already be managed. The location is left to
+   * the caller, since location rows are shared between characters and looked up by URL.
+   */
+  public static void copyToEntity(Character character, CharacterEntity entity) {
     entity.setApiCharacterId(character.id());
     entity.setName(character.name());
     entity.setStatus(character.status());
     entity.setSpecies(character.species());
     entity.setType(character.type());
     entity.setEpisodeCount(character.episodeCount());
-
-    // Handle location relationship
-    character
-        .location()
-        .ifPresent(
-            location -> {
-              LocationEntity locationEntity = locationDomainToEntity(location);
-              entity.setLocation(locationEntity);
-            });
-
-    return entity;
   }
 
   private static Location locationEntityToDomain(LocationEntity locationEntity) {
@@ -64,20 +62,6 @@ public final class CharacterDomainMapper {
         locationEntity.getName(),
         locationEntity.getUrl(),
         locationEntity.getDimension(),
-        locationEntity.getResidents() != null ? locationEntity.getResidents() : List.of());
-  }
-
-  private static LocationEntity locationDomainToEntity(Location location) {
-    if (location == null) {
-      return null;
-    }
-
-    LocationEntity entity = new LocationEntity();
-    entity.setName(location.name());
-    entity.setUrl(location.url());
-    entity.setDimension(location.dimension());
-    entity.setResidents(location.residents());
-
-    return entity;
+        CharacterIds.of(locationEntity.getResidentIds()));
   }
 }
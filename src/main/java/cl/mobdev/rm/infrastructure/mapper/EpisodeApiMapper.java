@@ -0,0 +1,56 @@
+package cl.mobdev.rm.infrastructure.mapper;
+
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Episode;
+import cl.mobdev.rm.infrastructure.dto.EpisodeApiDto;
+import java.util.Arrays;
+import java.util.List;
+
+public final class EpisodeApiMapper {
+
+  private EpisodeApiMapper() {}
+
+  public static Episode toDomain(EpisodeApiDto dto) {
+    return new Episode(
+        Integer.parseInt(dto.id()),
+        dto.name(),
+        dto.airDate(),
+        dto.episode(),
+        characterIds(dto.characters()));
+  }
+
+  /** Keeps the numeric ID at the end of each upstream URL; anything else is dropped. */
+  private static CharacterIds characterIds(List<String> urls) {
+    if (urls == null || urls.isEmpty()) {
+      return CharacterIds.empty();
+    }
+    int[] ids = new int[urls.size()];
+    int size = 0;
+    for (String url : urls) {
+      int id = trailingId(url);
+      if (id >= 0) {
+        ids[size++] = id;
+      }
+    }
+    return CharacterIds.of(Arrays.copyOf(ids, size));
+  }
+
+  private static int trailingId(String url) {
+    if (url == null) {
+      return -1;
+    }
+    int start = url.lastIndexOf('/') + 1;
+    if (start == url.length() || url.length() - start > 9) {
+      return -1;
+    }
+    int id = 0;
+    for (int i = start; i < url.length(); i++) {
+      char c = url.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      id = id * 10 + (c - '0');
+    }
+    return id;
+  }
+}
@@ -0,0 +1,181 @@
+package cl.mobdev.rm.infrastructure.web;
+
+import cl.mobdev.rm.application.timing.RequestTiming;
+import cl.mobdev.rm.infrastructure.jfr.CacheAccessEvent;
+import cl.mobdev.rm.infrastructure.jfr.CacheLoadEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Finished single-character responses as UTF-8 JSON bytes, keyed by character ID and then by
+ * field selection, so that invalidating a character drops all of its selections at once. A hit
+ * skips the mapper and Jackson and copies the bytes straight to the servlet output stream. Bodies
+ * of at least {@link #GZIP_MIN_SIZE} bytes also keep a gzip copy, served to clients that accept
+ * it; smaller bodies are not worth compressing.
+ *
+ * <p>Entries are dropped whenever the character leaves the domain cache, whether it was
+ * invalidated or evicted by size or age. A render that races with
+ * an invalidation is returned to its caller but not kept.
+ */
+public class CharacterResponseCache {
+
+  /** Selection key of the full character response. */
+  public static final String ALL_FIELDS = "*";
+
+  static final int GZIP_MIN_SIZE = 1024;
+
+  private static final String CACHE = "character-responses";
+
+  private final ObjectMapper objectMapper;
+  private final Cache<String, Map<String, Rendered>> cache;
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public CharacterResponseCache(
+      ObjectMapper objectMapper, Cache<String, Map<String, Rendered>> cache) {
+    this.objectMapper = objectMapper;
+    this.cache = cache;
+  }
+
+  /**
+   * Cached bytes for the character and selection, or {@code body} rendered and kept. The body is
+   * built outside the cache, so a slow upstream lookup never holds a cache lock.
+   */
+  public Rendered get(String id, String selection, Supplier<?> body) {
+    Key key = new Key(id, selection);
+    Rendered cached = CacheAccessEvent.getIfPresent(CACHE, key, () -> lookup(id, selection));
+    if (cached != null) {
+      return cached;
+    }
+    long generation = invalidations.get();
+    Rendered rendered =
+        CacheLoadEvent.load(
+            CACHE,
+            key,
+            () -> {
+              Object response = body.get();
+              return RequestTiming.time("serialize", () -> render(response));
+            });
+    cache.asMap().merge(id, Map.of(selection, rendered), CharacterResponseCache::merged);
+    if (invalidations.get() != generation) {
+      cache.asMap().computeIfPresent(id, (ignored, selections) -> without(selections, selection));
+    }
+    return rendered;
+  }
+
+  public void invalidate(String id) {
+    invalidations.incrementAndGet();
+    cache.invalidate(id);
+  }
+
+  public void invalidateAll() {
+    invalidations.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  /** Bytes held by every selection of a character, for the cache weigher. */
+  public static int weight(String id, Map<String, Rendered> selections) {
+    return selections.values().stream().mapToInt(Rendered::weight).sum();
+  }
+
+  private Rendered lookup(String id, String selection) {
+    Map<String, Rendered> selections = cache.getIfPresent(id);
+    return selections == null ? null : selections.get(selection);
+  }
+
+  /** Selections are replaced rather than mutated, so the weigher sees every change. */
+  private static Map<String, Rendered> merged(
+      Map<String, Rendered> current, Map<String, Rendered> added) {
+    Map<String, Rendered> selections = new HashMap<>(current);
+    selections.putAll(added);
+    return Map.copyOf(selections);
+  }
+
+  private static Map<String, Rendered> without(Map<String, Rendered> current, String selection) {
+    if (!current.containsKey(selection)) {
+      return current;
+    }
+    Map<String, Rendered> selections = new HashMap<>(current);
+    selections.remove(selection);
+    return selections.isEmpty() ? null : Map.copyOf(selections);
+  }
+
+  private Rendered render(Object body) {
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(body);
+      return new Rendered(json, json.length >= GZIP_MIN_SIZE ? gzip(json) : null);
+    } catch (JsonProcessingException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private static byte[] gzip(byte[] json) {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(json);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return compressed.toByteArray();
+  }
+
+  /** Identifies one rendered body in cache events: the upstream ID and the selected fields. */
+  public record Key(String id, String selection) {}
+
+  /** A rendered body; {@code gzip} is null when the body is too small to compress. */
+  public record Rendered(byte[] json, byte[] gzip) {
+
+    /** Bytes held by this entry, for the cache weigher. */
+    public int weight() {
+      return json.length + (gzip == null ? 0 : gzip.length);
+    }
+
+    public void writeTo(HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+      boolean compressed =
+          gzip != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+      byte[] body = compressed ? gzip : json;
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      if (compressed) {
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+      }
+      response.setContentLength(body.length);
+      try (RequestTiming.Span span = RequestTiming.start("write")) {
+        response.getOutputStream().write(body);
+      }
+    }
+  }
+
+  /** True when {@code gzip} is listed in the header without {@code q=0}. */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+        continue;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        if (parts[i].replace(" ", "").matches("q=0(\\.0{0,3})?")) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+}
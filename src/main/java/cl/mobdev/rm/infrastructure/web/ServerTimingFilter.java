@@ -0,0 +1,74 @@
+package cl.mobdev.rm.infrastructure.web;
+
+import cl.mobdev.rm.application.timing.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Times requests that ask for it with {@value #REQUEST_HEADER} and a sampled share of the rest.
+ * The segments recorded through {@link RequestTiming} are returned in a {@code Server-Timing}
+ * header and logged as one line with a {@code name_ms=duration} pair per segment. The body of a
+ * timed response is buffered so the header can still be added after the controller has written
+ * it; untimed requests pass straight through.
+ */
+@Slf4j
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  public static final String REQUEST_HEADER = "X-Server-Timing";
+  public static final String RESPONSE_HEADER = "Server-Timing";
+
+  private final double sampleRate;
+
+  public ServerTimingFilter(@Value("${rickandmorty.timing.sample-rate}") double sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    if (!timed(request)) {
+      chain.doFilter(request, response);
+      return;
+    }
+    ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+    RequestTiming timing = RequestTiming.begin();
+    try {
+      chain.doFilter(request, buffered);
+    } finally {
+      RequestTiming.end();
+      Map<String, Double> millis = timing.millis();
+      buffered.setHeader(RESPONSE_HEADER, RequestTiming.serverTiming(millis));
+      buffered.copyBodyToResponse();
+      log(request, buffered.getStatus(), millis);
+    }
+  }
+
+  private boolean timed(HttpServletRequest request) {
+    return request.getHeader(REQUEST_HEADER) != null
+        || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+  }
+
+  private static void log(HttpServletRequest request, int status, Map<String, Double> millis) {
+    log.info("{} {} {} {}", request.getMethod(), request.getRequestURI(), status, segments(millis));
+  }
+
+  /** The segments as {@code name_ms=duration} pairs, in the order they were recorded. */
+  public static String segments(Map<String, Double> millis) {
+    return millis.entrySet().stream()
+        .map(entry -> entry.getKey() + "_ms=" + entry.getValue())
+        .collect(Collectors.joining(" "));
+  }
+}
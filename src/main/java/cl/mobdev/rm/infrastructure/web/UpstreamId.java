@@ -0,0 +1,36 @@
+package cl.mobdev.rm.infrastructure.web;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import jakarta.validation.ReportAsSingleViolation;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * An upstream ID as a path or query parameter: digits only, positive and within int range, so the
+ * services can parse it without a {@link NumberFormatException}. {@code @Positive} alone accepts
+ * values like {@code 1.5}.
+ */
+@Documented
+@Positive
+@Pattern(regexp = "[0-9]{1,9}")
+@ReportAsSingleViolation
+@Constraint(validatedBy = {})
+@Target({PARAMETER, FIELD, TYPE_USE})
+@Retention(RUNTIME)
+public @interface UpstreamId {
+
+  String message() default "must be a positive integer ID";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,46 @@
+-- Locations used to be inserted once per character, so a schema from before the URL unique
+-- constraint can hold many rows per URL, with their residents in location_residents. The schema
+-- update cannot add uk_location_entity_url over those duplicates: keep the oldest row per URL,
+-- move its residents into resident_ids and point every character at it. A fresh database has no
+-- location_entity yet and skips all of this.
+DO $$
+BEGIN
+  IF to_regclass('location_entity') IS NULL THEN
+    RETURN;
+  END IF;
+
+  ALTER TABLE location_entity ADD COLUMN IF NOT EXISTS resident_ids integer[];
+  ALTER TABLE location_entity ADD COLUMN IF NOT EXISTS content_hash bigint;
+
+  IF to_regclass('location_residents') IS NOT NULL THEN
+    UPDATE location_entity l
+    SET resident_ids = r.ids
+    FROM (
+      SELECT location_id,
+             array_agg(DISTINCT substring(resident_url FROM '([0-9]+)/?$')::integer) AS ids
+      FROM location_residents
+      WHERE resident_url ~ '[0-9]+/?$'
+      GROUP BY location_id) r
+    WHERE l.id = r.location_id AND l.resident_ids IS NULL;
+  END IF;
+
+  CREATE TEMPORARY TABLE location_survivor ON COMMIT DROP AS
+  SELECT id, min(id) OVER (PARTITION BY url) AS keep_id
+  FROM location_entity
+  WHERE url IS NOT NULL;
+
+  IF to_regclass('characters') IS NOT NULL THEN
+    UPDATE characters c
+    SET location_id = s.keep_id
+    FROM location_survivor s
+    WHERE c.location_id = s.id AND s.id <> s.keep_id;
+  END IF;
+
+  IF to_regclass('location_residents') IS NOT NULL THEN
+    DROP TABLE location_residents;
+  END IF;
+
+  DELETE FROM location_entity l
+  USING location_survivor s
+  WHERE l.id = s.id AND s.id <> s.keep_id;
+END $$;
@@ -0,0 +1,28 @@
+-- Characters used to be saved after an existence check, so two concurrent saves could both insert
+-- the same api_character_id. The schema update cannot add uk_characters_api_character_id over
+-- those duplicates, and saves need it for ON CONFLICT (api_character_id): keep one row per API id,
+-- preferring a character created through POST (fetched_at IS NULL) over an upstream copy, then
+-- the oldest, and add the constraint. A fresh database has no characters table yet and skips all
+-- of this.
+DO $$
+BEGIN
+  IF to_regclass('characters') IS NULL THEN
+    RETURN;
+  END IF;
+
+  DELETE FROM characters c
+  USING (
+    SELECT id,
+           row_number() OVER (
+             PARTITION BY api_character_id
+             ORDER BY fetched_at IS NOT NULL, id) AS position
+    FROM characters
+    WHERE api_character_id IS NOT NULL) ranked
+  WHERE c.id = ranked.id AND ranked.position > 1;
+
+  IF NOT EXISTS (
+      SELECT 1 FROM pg_constraint WHERE conname = 'uk_characters_api_character_id') THEN
+    ALTER TABLE characters
+      ADD CONSTRAINT uk_characters_api_character_id UNIQUE (api_character_id);
+  END IF;
+END $$;
@@ -1,6 +1,10 @@
 package cl.mobdev.rm.adapter.inboud;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -8,14 +12,27 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import cl.mobdev.rm.application.service.CharacterService;
 import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
 import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
 import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.domain.model.ResidentPage;
 import cl.mobdev.rm.infrastructure.adapter.inbound.CharacterController;
+import cl.mobdev.rm.infrastructure.web.CharacterResponseCache;
+import cl.mobdev.rm.infrastructure.web.ExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
@@ -23,14 +40,39 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest
-@ContextConfiguration(classes = CharacterController.class)
+@ContextConfiguration(
+    classes = {
+      CharacterController.class,
+      ExceptionHandler.class,
+      CharacterControllerTest.ResponseCacheConfig.class
+    })
 @DisplayName("Character Controller Test")
 class CharacterControllerTest {
 
+  private static final int[] ORIGIN_RESIDENTS = {
+    38, 45, 71, 82, 83, 92, 112, 114, 116, 117, 120, 127, 155, 169, 175, 179, 186, 201, 216, 239,
+    271, 302, 303, 338, 343, 356, 394
+  };
+
   @Autowired private MockMvc mockMvc;
 
+  @Autowired private CharacterResponseCache responseCache;
+
   @MockitoBean private CharacterService service;
 
+  @TestConfiguration
+  static class ResponseCacheConfig {
+    @Bean
+    CharacterResponseCache characterResponseCache(ObjectMapper objectMapper) {
+      return new CharacterResponseCache(objectMapper, Caffeine.newBuilder().build());
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    responseCache.invalidateAll();
+  }
+
   @Test
   @DisplayName("should return a Character by their ID")
   void shouldReturnCharacterById() throws Exception {
@@ -51,7 +93,79 @@ class CharacterControllerTest {
         .andExpect(jsonPath("$.origin.url").value("https://rickandmortyapi.com/api/location/1"))
         .andExpect(jsonPath("$.origin.dimension").value("Dimension C-137"))
         .andExpect(jsonPath("$.origin.residents").isArray())
-        .andExpect(jsonPath("$.origin.residents.length()").value(27));
+        .andExpect(jsonPath("$.origin.residents.length()").value(27))
+        .andExpect(
+            jsonPath("$.origin.residents[0]")
+                .value("https://rickandmortyapi.com/api/character/38"));
+  }
+
+  @Test
+  @DisplayName("Should serve a repeated request from the rendered-response cache")
+  void shouldServeRepeatedRequestFromResponseCache() throws Exception {
+    when(service.findCharacter("1")).thenReturn(createValidCharacter());
+
+    String first =
+        mockMvc.perform(get("/api/v1/character/1")).andReturn().getResponse().getContentAsString();
+    String second =
+        mockMvc.perform(get("/api/v1/character/1")).andReturn().getResponse().getContentAsString();
+
+    assertThat(second).isEqualTo(first);
+    verify(service, times(1)).findCharacter("1");
+  }
+
+  @Test
+  @DisplayName("Should send the cached gzip copy to clients that accept it")
+  void shouldServeGzipCopy() throws Exception {
+    when(service.findCharacter("1")).thenReturn(createValidCharacter());
+    String plain =
+        mockMvc.perform(get("/api/v1/character/1")).andReturn().getResponse().getContentAsString();
+
+    byte[] compressed =
+        mockMvc
+            .perform(get("/api/v1/character/1").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain);
+    }
+  }
+
+  @Test
+  @DisplayName("Should cache each field selection separately")
+  void shouldCacheFieldSelectionsSeparately() throws Exception {
+    when(service.findCharacter("1", false)).thenReturn(createValidCharacter());
+
+    mockMvc.perform(get("/api/v1/character/1").param("fields", "species,id"));
+    mockMvc
+        .perform(get("/api/v1/character/1").param("fields", "id,species"))
+        .andExpect(jsonPath("$.species").value("Human"));
+    mockMvc
+        .perform(get("/api/v1/character/1").param("fields", "name"))
+        .andExpect(jsonPath("$.name").value("Rick Sanchez"))
+        .andExpect(jsonPath("$.species").doesNotExist());
+
+    verify(service, times(2)).findCharacter("1", false);
+  }
+
+  @Test
+  @DisplayName("Should render again once the character is invalidated")
+  void shouldRenderAgainAfterInvalidation() throws Exception {
+    when(service.findCharacter("1")).thenReturn(createValidCharacter());
+    mockMvc.perform(get("/api/v1/character/1"));
+
+    responseCache.invalidate("1");
+    when(service.findCharacter("1"))
+        .thenReturn(new Character(1, "Rick", "Dead", "Human", "", 51, Optional.empty()));
+
+    mockMvc
+        .perform(get("/api/v1/character/1"))
+        .andExpect(jsonPath("$.status").value("Dead"))
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
   }
 
   @Test
@@ -79,6 +193,140 @@ class CharacterControllerTest {
     mockMvc.perform(get("/api/v1/character/-1")).andExpect(status().isBadRequest());
   }
 
+  @Test
+  @DisplayName("Should return 400 when ID is not an integer")
+  void shouldRejectDecimalId() throws Exception {
+    mockMvc.perform(get("/api/v1/character/1.5")).andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/v1/character/99999999999")).andExpect(status().isBadRequest());
+
+    verifyNoInteractions(service);
+  }
+
+  @Test
+  @DisplayName("should return every requested Character in a single call")
+  void shouldReturnCharactersByIds() throws Exception {
+    when(service.findCharacters(List.of("1", "2")))
+        .thenReturn(
+            List.of(
+                createValidCharacter(),
+                new Character(2, "Morty Smith", "Alive", "Human", "", 51, Optional.empty())));
+
+    mockMvc
+        .perform(get("/api/v1/character").param("ids", "1,2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].name").value("Rick Sanchez"))
+        .andExpect(jsonPath("$[0].origin.name").value("Earth (C-137)"))
+        .andExpect(jsonPath("$[1].name").value("Morty Smith"));
+  }
+
+  @Test
+  @DisplayName("Should return 400 when a batch ID is not positive")
+  void shouldRejectInvalidBatchIds() throws Exception {
+    mockMvc
+        .perform(get("/api/v1/character").param("ids", "1,-2"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get("/api/v1/character").param("ids", "1,2.5"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should return only the requested fields and skip the origin lookup")
+  void shouldReturnSparseCharacterWithoutOrigin() throws Exception {
+    when(service.findCharacter("1", false)).thenReturn(createValidCharacter());
+
+    mockMvc
+        .perform(get("/api/v1/character/1").param("fields", "id,species"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(1))
+        .andExpect(jsonPath("$.species").value("Human"))
+        .andExpect(jsonPath("$.name").doesNotExist())
+        .andExpect(jsonPath("$.origin").doesNotExist());
+
+    verify(service).findCharacter("1", false);
+  }
+
+  @Test
+  @DisplayName("Should resolve the origin when a sparse request expands it")
+  void shouldReturnSparseCharacterWithExpandedOrigin() throws Exception {
+    when(service.findCharacter("1", true)).thenReturn(createValidCharacter());
+
+    mockMvc
+        .perform(get("/api/v1/character/1").param("fields", "name").param("expand", "origin"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.name").value("Rick Sanchez"))
+        .andExpect(jsonPath("$.origin.name").value("Earth (C-137)"))
+        .andExpect(jsonPath("$.id").doesNotExist());
+  }
+
+  @Test
+  @DisplayName("Should return a page of origin resident summaries")
+  void shouldReturnOriginResidentsPage() throws Exception {
+    when(service.findOriginResidents("1", 2, 10))
+        .thenReturn(
+            new ResidentPage(
+                2,
+                10,
+                27,
+                List.of(new Character(120, "Morty", "Alive", "Human", "", 1, Optional.empty()))));
+
+    mockMvc
+        .perform(get("/api/v1/character/1/origin/residents").param("page", "2").param("size", "10"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total_elements").value(27))
+        .andExpect(jsonPath("$.total_pages").value(3))
+        .andExpect(jsonPath("$.content[0].id").value(120))
+        .andExpect(jsonPath("$.content[0].name").value("Morty"));
+  }
+
+  @Test
+  @DisplayName("Should return 400 when the resident page size exceeds the batch limit")
+  void shouldRejectOversizedResidentPage() throws Exception {
+    mockMvc
+        .perform(get("/api/v1/character/1/origin/residents").param("size", "500"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should save a character whose origin residents are character URLs")
+  void shouldSaveCharacterWithResidents() throws Exception {
+    when(service.saveToLocal(any(Character.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    mockMvc
+        .perform(
+            post("/api/v1/character")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(characterRequest("\"https://rickandmortyapi.com/api/character/7\"")))
+        .andExpect(status().isOk())
+        .andExpect(
+            jsonPath("$.origin.residents[0]").value("https://rickandmortyapi.com/api/character/7"));
+  }
+
+  @Test
+  @DisplayName("Should return 400 when a saved origin resident is not a character URL")
+  void shouldRejectInvalidResident() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/character")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(characterRequest("\"https://rickandmortyapi.com/api/location/7\"")))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(service);
+  }
+
+  private static String characterRequest(String residents) {
+    return """
+        {"id": 900001, "name": "Rick Prime", "status": "Alive", "species": "Human", "type": "",
+         "episode_count": 1,
+         "origin": {"name": "Earth (C-137)", "url": "https://rickandmortyapi.com/api/location/1",
+                    "dimension": "Dimension C-137", "residents": [%s]}}
+        """
+        .formatted(residents);
+  }
+
   public Character createValidCharacter() {
     Optional<Location> origin =
         Optional.of(
@@ -86,34 +334,7 @@ class CharacterControllerTest {
                 "Earth (C-137)",
                 "https://rickandmortyapi.com/api/location/1",
                 "Dimension C-137",
-                List.of(
-                    "https://rickandmortyapi.com/api/character/38",
-                    "https://rickandmortyapi.com/api/character/45",
-                    "https://rickandmortyapi.com/api/character/71",
-                    "https://rickandmortyapi.com/api/character/82",
-                    "https://rickandmortyapi.com/api/character/83",
-                    "https://rickandmortyapi.com/api/character/92",
-                    "https://rickandmortyapi.com/api/character/112",
-                    "https://rickandmortyapi.com/api/character/114",
-                    "https://rickandmortyapi.com/api/character/116",
-                    "https://rickandmortyapi.com/api/character/117",
-                    "https://rickandmortyapi.com/api/character/120",
-                    "https://rickandmortyapi.com/api/character/127",
-                    "https://rickandmortyapi.com/api/character/155",
-                    "https://rickandmortyapi.com/api/character/169",
-                    "https://rickandmortyapi.com/api/character/175",
-                    "https://rickandmortyapi.com/api/character/179",
-                    "https://rickandmortyapi.com/api/character/186",
-                    "https://rickandmortyapi.com/api/character/201",
-                    "https://rickandmortyapi.com/api/character/216",
-                    "https://rickandmortyapi.com/api/character/239",
-                    "https://rickandmortyapi.com/api/character/271",
-                    "https://rickandmortyapi.com/api/character/302",
-                    "https://rickandmortyapi.com/api/character/303",
-                    "https://rickandmortyapi.com/api/character/338",
-                    "https://rickandmortyapi.com/api/character/343",
-                    "https://rickandmortyapi.com/api/character/356",
-                    "https://rickandmortyapi.com/api/character/394")));
+                CharacterIds.of(ORIGIN_RESIDENTS)));
     return new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, origin);
   }
 }
@@ -0,0 +1,84 @@
+package cl.mobdev.rm.adapter.inboud;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import cl.mobdev.rm.application.dto.CoAppearanceResponse;
+import cl.mobdev.rm.application.service.EpisodeService;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Episode;
+import cl.mobdev.rm.infrastructure.adapter.inbound.EpisodeController;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest
+@ContextConfiguration(classes = EpisodeController.class)
+@DisplayName("Episode Controller Test")
+class EpisodeControllerTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private EpisodeService service;
+
+  private final Episode pilot =
+      new Episode(1, "Pilot", "December 2, 2013", "S01E01", CharacterIds.of(1, 2, 35, 38));
+
+  @Test
+  @DisplayName("Should return an episode by its ID")
+  void shouldReturnEpisodeById() throws Exception {
+    when(service.findEpisode("1")).thenReturn(pilot);
+
+    mockMvc
+        .perform(get("/api/v1/episode/1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(1))
+        .andExpect(jsonPath("$.name").value("Pilot"))
+        .andExpect(jsonPath("$.air_date").value("December 2, 2013"))
+        .andExpect(jsonPath("$.episode").value("S01E01"))
+        .andExpect(jsonPath("$.character_count").value(4));
+  }
+
+  @Test
+  @DisplayName("Should return the episodes a character appears in")
+  void shouldReturnCharacterEpisodes() throws Exception {
+    when(service.findCharacterEpisodes("1")).thenReturn(List.of(pilot));
+
+    mockMvc
+        .perform(get("/api/v1/character/1/episodes"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].episode").value("S01E01"));
+  }
+
+  @Test
+  @DisplayName("Should return the top co-appearing characters")
+  void shouldReturnCoAppearances() throws Exception {
+    when(service.findCoAppearances("1", 2))
+        .thenReturn(
+            List.of(
+                new CoAppearanceResponse(2, "Morty Smith", 51),
+                new CoAppearanceResponse(4, "Beth Smith", 42)));
+
+    mockMvc
+        .perform(get("/api/v1/character/1/co-appearances").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].id").value(2))
+        .andExpect(jsonPath("$[0].name").value("Morty Smith"))
+        .andExpect(jsonPath("$[0].shared_episodes").value(51))
+        .andExpect(jsonPath("$[1].id").value(4));
+  }
+
+  @Test
+  @DisplayName("Should return 400 for a non-numeric episode ID")
+  void shouldRejectNonNumericEpisodeId() throws Exception {
+    mockMvc.perform(get("/api/v1/episode/A")).andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/v1/episode/1.5")).andExpect(status().isBadRequest());
+  }
+}
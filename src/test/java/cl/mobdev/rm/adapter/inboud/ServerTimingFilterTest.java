@@ -0,0 +1,93 @@
+package cl.mobdev.rm.adapter.inboud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cl.mobdev.rm.application.timing.RequestTiming;
+import cl.mobdev.rm.infrastructure.web.ServerTimingFilter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("Server Timing Filter Test")
+class ServerTimingFilterTest {
+
+  private static final String BODY = "{\"id\":1}";
+
+  @Test
+  @DisplayName("Should return the recorded segments when the request asks for them")
+  void shouldAddServerTimingWhenRequested() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/character/1");
+    request.addHeader(ServerTimingFilter.REQUEST_HEADER, "1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new ServerTimingFilter(0).doFilter(request, response, new MockFilterChain(new Controller()));
+
+    assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER))
+        .matches("character;dur=[0-9.]+, write;dur=[0-9.]+, total;dur=[0-9.]+");
+    assertThat(response.getContentAsString()).isEqualTo(BODY);
+    assertThat(response.getContentLength()).isEqualTo(BODY.length());
+  }
+
+  @Test
+  @DisplayName("Should pass untimed requests through without the header")
+  void shouldSkipUnrequestedRequests() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new ServerTimingFilter(0)
+        .doFilter(
+            new MockHttpServletRequest("GET", "/api/v1/character/1"),
+            response,
+            new MockFilterChain(new Controller()));
+
+    assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER)).isNull();
+    assertThat(response.getContentAsString()).isEqualTo(BODY);
+  }
+
+  @Test
+  @DisplayName("Should time every request at a sample rate of one")
+  void shouldTimeSampledRequests() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new ServerTimingFilter(1)
+        .doFilter(
+            new MockHttpServletRequest("GET", "/api/v1/character/1"),
+            response,
+            new MockFilterChain(new Controller()));
+
+    assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER)).contains("total;dur=");
+  }
+
+  @Test
+  @DisplayName("Should log the segments as plain key-value pairs in recording order")
+  void shouldFormatSegmentsForTheLogLine() {
+    Map<String, Double> millis = new LinkedHashMap<>();
+    millis.put("db", 0.4);
+    millis.put("fetch", 12.1);
+    millis.put("total", 13.0);
+
+    assertThat(ServerTimingFilter.segments(millis))
+        .isEqualTo("db_ms=0.4 fetch_ms=12.1 total_ms=13.0");
+  }
+
+  /** Writes and commits the body itself, as the cached character responses do. */
+  private static class Controller extends HttpServlet {
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+      RequestTiming.time("character", () -> BODY);
+      response.setContentLength(BODY.length());
+      try (RequestTiming.Span span = RequestTiming.start("write")) {
+        response.getOutputStream().write(BODY.getBytes());
+        response.flushBuffer();
+      }
+    }
+  }
+}
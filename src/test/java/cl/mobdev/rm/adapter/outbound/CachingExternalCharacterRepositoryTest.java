@@ -0,0 +1,303 @@
+package cl.mobdev.rm.adapter.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CachingExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.cache.InvalidationListeners;
+import cl.mobdev.rm.infrastructure.cache.SharedCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatusCode;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Caching External Character Repository Test")
+class CachingExternalCharacterRepositoryTest {
+
+  @Mock ExternalCharacterRepository delegate;
+
+  CachingExternalCharacterRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository =
+        new CachingExternalCharacterRepository(
+            delegate,
+            Caffeine.newBuilder()
+                .maximumSize(100)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync());
+  }
+
+  @Test
+  @DisplayName("Should call the upstream only once for repeated lookups of the same ID")
+  void shouldServeRepeatedLookupsFromCache() {
+    Character rick = new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.empty());
+    when(delegate.findCharacter("1")).thenReturn(rick);
+
+    repository.findCharacter("1");
+    repository.findCharacter("1");
+    Character result = repository.findCharacter("1");
+
+    assertThat(result).isEqualTo(rick);
+    verify(delegate, times(1)).findCharacter("1");
+    assertThat(repository.stats().hitCount()).isEqualTo(2);
+    assertThat(repository.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not cache upstream failures")
+  void shouldNotCacheFailures() {
+    when(delegate.findCharacter("999"))
+        .thenThrow(new RickAndMortyApiException(HttpStatusCode.valueOf(404), "not found"));
+
+    assertThatThrownBy(() -> repository.findCharacter("999"))
+        .isInstanceOf(RickAndMortyApiException.class);
+    assertThatThrownBy(() -> repository.findCharacter("999"))
+        .isInstanceOf(RickAndMortyApiException.class);
+
+    verify(delegate, times(2)).findCharacter("999");
+  }
+
+  @Test
+  @DisplayName("Should serve a lookup without origin from a cached full character")
+  void shouldServeBareLookupFromFullEntry() {
+    Character rick =
+        new Character(
+            1,
+            "Rick Sanchez",
+            "Alive",
+            "Human",
+            "",
+            51,
+            Optional.of(
+                new Location(
+                    "Earth (C-137)",
+                    "https://rickandmortyapi.com/api/location/1",
+                    "Dimension C-137",
+                    CharacterIds.empty())));
+    when(delegate.findCharacter("1")).thenReturn(rick);
+
+    repository.findCharacter("1");
+    Character result = repository.findCharacter("1", false);
+
+    assertThat(result.name()).isEqualTo("Rick Sanchez");
+    assertThat(result.location()).isEmpty();
+    verify(delegate, never()).findCharacter("1", false);
+  }
+
+  @Test
+  @DisplayName("Should cache a lookup without origin under its own key")
+  void shouldCacheBareLookups() {
+    Character morty = new Character(2, "Morty Smith", "Alive", "Human", "", 51, Optional.empty());
+    when(delegate.findCharacter("2", false)).thenReturn(morty);
+
+    repository.findCharacter("2", false);
+    repository.findCharacter("2", false);
+
+    verify(delegate, times(1)).findCharacter("2", false);
+    verify(delegate, never()).findCharacter("2");
+  }
+
+  @Test
+  @DisplayName("Should warm a second replica from the shared tier instead of the upstream")
+  void shouldServeSecondReplicaFromSharedTier() {
+    InMemorySharedCache shared = new InMemorySharedCache();
+    Character rick = new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.empty());
+    when(delegate.findCharacter("1")).thenReturn(rick);
+
+    replica(shared).findCharacter("1");
+    Character fromSecondReplica = replica(shared).findCharacter("1");
+
+    assertThat(fromSecondReplica).isEqualTo(rick);
+    verify(delegate, times(1)).findCharacter("1");
+  }
+
+  @Test
+  @DisplayName("Should fetch from the upstream only the batch IDs the shared tier lacks")
+  void shouldFetchOnlySharedTierMisses() {
+    InMemorySharedCache shared = new InMemorySharedCache();
+    Character rick = new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.empty());
+    Character morty = new Character(2, "Morty Smith", "Alive", "Human", "", 51, Optional.empty());
+    shared.put("1", rick);
+    when(delegate.findCharacters(List.of("2"))).thenReturn(List.of(morty));
+
+    List<Character> result = replica(shared).findCharacters(List.of("1", "2"));
+
+    assertThat(result).containsExactly(rick, morty);
+    assertThat(shared.get("2")).contains(morty);
+  }
+
+  @Test
+  @DisplayName("Should evict from the shared tier when a character is evicted")
+  void shouldEvictFromSharedTier() {
+    InMemorySharedCache shared = new InMemorySharedCache();
+    Character rick = new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.empty());
+    when(delegate.findCharacter("1")).thenReturn(rick);
+    CachingExternalCharacterRepository replica = replica(shared);
+    replica.findCharacter("1");
+
+    replica.evict("1");
+    replica.findCharacter("1");
+
+    assertThat(shared.evicted).containsExactly("1");
+    verify(delegate, times(2)).findCharacter("1");
+  }
+
+  @Test
+  @DisplayName("Should notify invalidation listeners with the character ID")
+  void shouldNotifyInvalidationListeners() {
+    List<String> invalidated = new ArrayList<>();
+    repository.addInvalidationListener(invalidated::add);
+
+    repository.invalidateLocal("7");
+    repository.evict("8");
+
+    assertThat(invalidated).containsExactly("7", "8");
+  }
+
+  @Test
+  @DisplayName("Should notify invalidation listeners when an entry expires")
+  void shouldNotifyInvalidationListenersOnExpiry() {
+    AtomicLong nanos = new AtomicLong();
+    InvalidationListeners listeners = new InvalidationListeners();
+    CachingExternalCharacterRepository expiring =
+        new CachingExternalCharacterRepository(
+            delegate,
+            Caffeine.newBuilder()
+                .ticker(nanos::get)
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .executor(Runnable::run)
+                .removalListener(
+                    listeners.<CachingExternalCharacterRepository.Key, Character>onEviction(
+                        CachingExternalCharacterRepository.Key::id))
+                .buildAsync(),
+            SharedCache.none(),
+            listeners);
+    List<String> invalidated = new ArrayList<>();
+    expiring.addInvalidationListener(invalidated::add);
+    expiring.cacheCharacter(
+        new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.empty()));
+    expiring.cacheCharacter(
+        new Character(2, "Morty Smith", "Alive", "Human", "", 14, Optional.empty()));
+
+    expiring.invalidateLocal("2");
+    nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+    expiring.cacheCharacter(
+        new Character(3, "Summer Smith", "Alive", "Human", "", 17, Optional.empty()));
+
+    assertThat(expiring.findCachedCharacter("1", true)).isEmpty();
+    assertThat(invalidated).containsExactly("2", "1");
+  }
+
+  @Test
+  @DisplayName("Should drop only the characters whose origin is the invalidated location")
+  void shouldInvalidateCharactersByOrigin() {
+    List<String> invalidated = new ArrayList<>();
+    repository.addInvalidationListener(invalidated::add);
+    repository.cacheCharacter(
+        new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.of(origin(1))));
+    repository.cacheCharacter(
+        new Character(2, "Morty Smith", "Alive", "Human", "", 14, Optional.of(origin(1))));
+    repository.cacheCharacter(
+        new Character(3, "Evil Morty", "Alive", "Human", "", 14, Optional.of(origin(3))));
+
+    repository.invalidateLocalByOrigin("1");
+
+    assertThat(invalidated).containsExactlyInAnyOrder("1", "2");
+    assertThat(repository.findCachedCharacter("1", true)).isEmpty();
+    assertThat(repository.findCachedCharacter("3", true)).isPresent();
+  }
+
+  @Test
+  @DisplayName("Should answer cached lookups without I/O and nothing before the first load")
+  void shouldAnswerCachedLookupsWithoutLoading() {
+    Character rick =
+        new Character(
+            1,
+            "Rick Sanchez",
+            "Alive",
+            "Human",
+            "",
+            51,
+            Optional.of(new Location("Earth (C-137)", null, "Dimension C-137", null)));
+
+    assertThat(repository.findCachedCharacter("1", true)).isEmpty();
+    repository.cacheCharacter(rick);
+
+    assertThat(repository.findCachedCharacter("1", true)).hasValue(rick);
+    assertThat(repository.findCachedCharacter("1", false))
+        .hasValue(rick.withLocation(Optional.empty()));
+    verify(delegate, never()).findCharacter("1");
+  }
+
+  private static Location origin(int id) {
+    return new Location(
+        "Location " + id,
+        "https://rickandmortyapi.com/api/location/" + id,
+        "Dimension C-137",
+        CharacterIds.empty());
+  }
+
+  private CachingExternalCharacterRepository replica(SharedCache<Character> shared) {
+    return new CachingExternalCharacterRepository(
+        delegate, Caffeine.newBuilder().executor(Runnable::run).buildAsync(), shared);
+  }
+
+  private static class InMemorySharedCache implements SharedCache<Character> {
+
+    private final Map<String, Character> entries = new HashMap<>();
+    private final List<String> evicted = new ArrayList<>();
+
+    @Override
+    public Optional<Character> get(String key) {
+      return Optional.ofNullable(entries.get(key));
+    }
+
+    @Override
+    public Map<String, Character> getAll(Collection<String> keys) {
+      Map<String, Character> found = new HashMap<>();
+      keys.forEach(key -> get(key).ifPresent(character -> found.put(key, character)));
+      return found;
+    }
+
+    @Override
+    public void put(String key, Character value) {
+      entries.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<String, Character> values) {
+      entries.putAll(values);
+    }
+
+    @Override
+    public void evict(String key) {
+      entries.remove(key);
+      evicted.add(key);
+    }
+  }
+}
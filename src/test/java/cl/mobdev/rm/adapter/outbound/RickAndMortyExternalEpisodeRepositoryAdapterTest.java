@@ -0,0 +1,120 @@
+package cl.mobdev.rm.adapter.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cl.mobdev.rm.domain.model.CoAppearance;
+import cl.mobdev.rm.domain.model.Episode;
+import cl.mobdev.rm.infrastructure.adapter.outbound.RickAndMortyExternalEpisodeRepositoryAdapter;
+import cl.mobdev.rm.infrastructure.client.RickAndMortyHttpClient;
+import cl.mobdev.rm.infrastructure.dto.EpisodeApiDto;
+import cl.mobdev.rm.infrastructure.dto.EpisodePageApiDto;
+import cl.mobdev.rm.infrastructure.dto.PageInfoApiDto;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Rick And Morty External Episode Repository Adapter Test")
+class RickAndMortyExternalEpisodeRepositoryAdapterTest {
+
+  @Mock RickAndMortyHttpClient httpClient;
+
+  RickAndMortyExternalEpisodeRepositoryAdapter repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new RickAndMortyExternalEpisodeRepositoryAdapter(httpClient);
+    when(httpClient.getEpisodePage(1))
+        .thenReturn(
+            new EpisodePageApiDto(
+                new PageInfoApiDto(4, 2, "https://rickandmortyapi.com/api/episode?page=2", null),
+                List.of(episode(1, 1, 2), episode(2, 1, 2, 35))));
+    when(httpClient.getEpisodes(List.of("3", "4")))
+        .thenReturn(List.of(episode(3, 1, 35), episode(4, 2)));
+  }
+
+  @Test
+  @DisplayName("Should load the catalog once with the first page and one multi-ID call")
+  void shouldLoadCatalogOnce() {
+    repository.findEpisode(1);
+    repository.findEpisodes(List.of(4, 2));
+    repository.findEpisodesOfCharacter(1);
+
+    verify(httpClient, times(1)).getEpisodePage(1);
+    verify(httpClient, times(1)).getEpisodes(List.of("3", "4"));
+  }
+
+  @Test
+  @DisplayName("Should resolve a character's episodes in airing order from the local table")
+  void shouldResolveEpisodesOfCharacter() {
+    assertThat(repository.findEpisodesOfCharacter(1))
+        .extracting(Episode::id)
+        .containsExactly(1, 2, 3);
+    assertThat(repository.findEpisodesOfCharacter(2))
+        .extracting(Episode::id)
+        .containsExactly(1, 2, 4);
+    assertThat(repository.findEpisodesOfCharacter(35))
+        .extracting(Episode::id)
+        .containsExactly(2, 3);
+    assertThat(repository.findEpisodesOfCharacter(999)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should return episodes in the requested order and skip unknown IDs")
+  void shouldFindEpisodesById() {
+    assertThat(repository.findEpisodes(List.of(4, 99, 1)))
+        .extracting(Episode::id)
+        .containsExactly(4, 1);
+    assertThat(repository.findEpisode(3).map(Episode::airDate)).contains("Air date 3");
+    assertThat(repository.findEpisode(0)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should rank co-appearing characters by shared episodes, lower IDs first on ties")
+  void shouldRankCoAppearances() {
+    assertThat(repository.findCoAppearances(1, 10))
+        .containsExactly(new CoAppearance(2, 2), new CoAppearance(35, 2));
+    assertThat(repository.findCoAppearances(2, 1)).containsExactly(new CoAppearance(1, 2));
+    assertThat(repository.findCoAppearances(999, 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should fetch only new episodes when the catalog is refreshed")
+  void shouldAddOnlyNewEpisodesOnRefresh() {
+    repository.findEpisode(1);
+    when(httpClient.getEpisodePage(1))
+        .thenReturn(
+            new EpisodePageApiDto(
+                new PageInfoApiDto(5, 1, null, null), List.of(episode(1, 1, 2), episode(2, 1))));
+    when(httpClient.getEpisodes(List.of("5"))).thenReturn(List.of(episode(5, 35)));
+
+    repository.refresh();
+
+    verify(httpClient, times(1)).getEpisodes(List.of("3", "4"));
+    verify(httpClient, times(1)).getEpisodes(List.of("5"));
+    assertThat(repository.findEpisodesOfCharacter(35))
+        .extracting(Episode::id)
+        .containsExactly(2, 3, 5);
+  }
+
+  private static EpisodeApiDto episode(int id, int... characters) {
+    return new EpisodeApiDto(
+        String.valueOf(id),
+        "Episode " + id,
+        "Air date " + id,
+        "S01E0" + id,
+        "https://rickandmortyapi.com/api/episode/" + id,
+        "2017-11-10T12:56:33.798Z",
+        Arrays.stream(characters)
+            .mapToObj(character -> "https://rickandmortyapi.com/api/character/" + character)
+            .toList());
+  }
+}
@@ -0,0 +1,183 @@
+package cl.mobdev.rm.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import cl.mobdev.rm.application.service.CharacterService;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.domain.model.ResidentPage;
+import cl.mobdev.rm.domain.ports.CharacterRepository;
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Character Service Test")
+class CharacterServiceTest {
+
+  @Mock ExternalCharacterRepository externalRepo;
+
+  @Mock CharacterRepository localRepo;
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private CharacterService service;
+
+  private final Character rick =
+      new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.empty());
+
+  @BeforeEach
+  void setUp() {
+    service = new CharacterService(externalRepo, localRepo, executor, Duration.ofHours(24));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  @DisplayName("Should serve an in-process cached character without querying the database")
+  void shouldServeCachedCopyBeforeDatabase() {
+    when(externalRepo.findCachedCharacter("1", true)).thenReturn(Optional.of(rick));
+
+    Character result = service.findCharacter("1");
+
+    assertThat(result).isEqualTo(rick);
+    verifyNoInteractions(localRepo);
+    verify(externalRepo, never()).findCharacter(anyString());
+  }
+
+  @Test
+  @DisplayName("Should serve a fresh stored character without calling the upstream API")
+  void shouldServeFreshLocalCopy() {
+    when(localRepo.findFreshByApiCharacterId(eq(1), any(Instant.class)))
+        .thenReturn(Optional.of(rick));
+
+    Character result = service.findCharacter("1");
+
+    assertThat(result).isEqualTo(rick);
+    verify(externalRepo, never()).findCharacter(anyString());
+    verify(externalRepo).cacheCharacter(rick);
+    verify(localRepo, never()).refresh(any());
+  }
+
+  @Test
+  @DisplayName("Should drop the location of a stored character read without its origin")
+  void shouldServeStoredCopyWithoutOrigin() {
+    Character stored =
+        rick.withLocation(
+            Optional.of(
+                new Location(
+                    "Earth (C-137)",
+                    "https://rickandmortyapi.com/api/location/1",
+                    "Dimension C-137",
+                    CharacterIds.empty())));
+    when(localRepo.findFreshByApiCharacterId(eq(1), any(Instant.class)))
+        .thenReturn(Optional.of(stored));
+
+    Character result = service.findCharacter("1", false);
+
+    assertThat(result).isEqualTo(rick);
+    verify(externalRepo).cacheCharacter(stored);
+    verify(externalRepo, never()).findCharacter(anyString(), anyBoolean());
+  }
+
+  @Test
+  @DisplayName("Should read from the upstream API when the database is unavailable")
+  void shouldFallBackToUpstreamWhenDatabaseIsDown() {
+    when(localRepo.findFreshByApiCharacterId(eq(1), any(Instant.class)))
+        .thenThrow(new DataAccessResourceFailureException("connection refused"));
+    when(externalRepo.findCharacter("1")).thenReturn(rick);
+
+    Character result = service.findCharacter("1");
+
+    assertThat(result).isEqualTo(rick);
+  }
+
+  @Test
+  @DisplayName("Should fall back to the upstream API and write the result back")
+  void shouldFallBackToUpstreamAndWriteBack() {
+    when(localRepo.findFreshByApiCharacterId(eq(1), any(Instant.class)))
+        .thenReturn(Optional.empty());
+    when(externalRepo.findCharacter("1")).thenReturn(rick);
+
+    Character result = service.findCharacter("1");
+
+    assertThat(result).isEqualTo(rick);
+    verify(localRepo, timeout(1000)).refresh(rick);
+  }
+
+  @Test
+  @DisplayName("Should evict every cached copy of a character once it is saved")
+  void shouldEvictCachedCopiesOnSave() {
+    when(localRepo.save(rick)).thenReturn(rick);
+
+    Character saved = service.saveToLocal(rick);
+
+    assertThat(saved).isEqualTo(rick);
+    verify(externalRepo).evict("1");
+  }
+
+  @Test
+  @DisplayName("Should resolve one page of origin residents in a single batch without origins")
+  void shouldResolveOriginResidentsPage() {
+    Character rickFromEarth =
+        rick.withLocation(
+            Optional.of(
+                new Location(
+                    "Earth (C-137)",
+                    "https://rickandmortyapi.com/api/location/1",
+                    "Dimension C-137",
+                    CharacterIds.of(38, 45, 71, 82, 83))));
+    when(localRepo.findFreshByApiCharacterId(eq(1), any(Instant.class)))
+        .thenReturn(Optional.of(rickFromEarth));
+    List<Character> residents =
+        List.of(
+            new Character(71, "Davin", "Dead", "Human", "", 1, Optional.empty()),
+            new Character(82, "Eli", "Alive", "Human", "", 1, Optional.empty()));
+    when(externalRepo.findCharacters(List.of("71", "82"), false)).thenReturn(residents);
+
+    ResidentPage result = service.findOriginResidents("1", 2, 2);
+
+    assertThat(result.total()).isEqualTo(5);
+    assertThat(result.totalPages()).isEqualTo(3);
+    assertThat(result.residents()).isEqualTo(residents);
+  }
+
+  @Test
+  @DisplayName("Should return an empty page past the last resident")
+  void shouldReturnEmptyPagePastTheEnd() {
+    when(localRepo.findFreshByApiCharacterId(eq(1), any(Instant.class)))
+        .thenReturn(Optional.of(rick));
+
+    ResidentPage result = service.findOriginResidents("1", 3, 20);
+
+    assertThat(result.residents()).isEmpty();
+    assertThat(result.total()).isZero();
+    verify(externalRepo, never()).findCharacters(anyList(), anyBoolean());
+  }
+}
@@ -0,0 +1,64 @@
+package cl.mobdev.rm.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cl.mobdev.rm.application.mapper.CharacterUrls;
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Character Urls Test")
+class CharacterUrlsTest {
+
+  private final CharacterUrls urls = new CharacterUrls("https://rickandmortyapi.com/api/");
+
+  @Test
+  @DisplayName("Should parse the ID of each character URL of the configured API")
+  void shouldParseIdsFromUrls() {
+    CharacterIds ids =
+        urls.toIds(
+            List.of(
+                "https://rickandmortyapi.com/api/character/38",
+                "https://rickandmortyapi.com/api/character/394"));
+
+    assertThat(ids).isEqualTo(CharacterIds.of(38, 394));
+    assertThat(urls.toIds(null)).isEqualTo(CharacterIds.empty());
+  }
+
+  @Test
+  @DisplayName("Should reject anything that is not a character URL of the API with a 400")
+  void shouldRejectOtherUrls() {
+    List<String> invalid =
+        List.of(
+            "https://rickandmortyapi.com/api/character/",
+            "https://rickandmortyapi.com/api/character/1a",
+            "https://rickandmortyapi.com/api/character/9999999999",
+            "https://rickandmortyapi.com/api/location/1",
+            "https://example.com/api/character/1",
+            "not-a-url");
+
+    for (String url : invalid) {
+      assertThatThrownBy(
+              () -> urls.toIds(List.of("https://rickandmortyapi.com/api/character/1", url)))
+          .as(url)
+          .isInstanceOf(RickAndMortyApiException.class)
+          .extracting(ex -> ((RickAndMortyApiException) ex).getStatusCode().value())
+          .isEqualTo(400);
+    }
+  }
+
+  @Test
+  @DisplayName("Should rebuild the URLs from the configured base only through a read-only view")
+  void shouldRebuildUrls() {
+    List<String> rebuilt =
+        new CharacterUrls("http://localhost:8089/api").toUrls(CharacterIds.of(1, 2));
+
+    assertThat(rebuilt)
+        .containsExactly(
+            "http://localhost:8089/api/character/1", "http://localhost:8089/api/character/2");
+    assertThatThrownBy(() -> rebuilt.add("x")).isInstanceOf(UnsupportedOperationException.class);
+  }
+}
@@ -0,0 +1,73 @@
+package cl.mobdev.rm.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import cl.mobdev.rm.application.service.EpisodeService;
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Episode;
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.domain.ports.ExternalEpisodeRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatusCode;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Episode Service Test")
+class EpisodeServiceTest {
+
+  @Mock ExternalEpisodeRepository episodeRepo;
+
+  @Mock ExternalCharacterRepository characterRepo;
+
+  private EpisodeService service;
+
+  private final Episode pilot =
+      new Episode(1, "Pilot", "December 2, 2013", "S01E01", CharacterIds.of(1, 2, 35, 38));
+
+  @BeforeEach
+  void setUp() {
+    service = new EpisodeService(episodeRepo, characterRepo);
+  }
+
+  @Test
+  @DisplayName("Should list a character's episodes without looking the character up")
+  void shouldReturnEpisodesOfKnownCharacter() {
+    when(episodeRepo.findEpisodesOfCharacter(1)).thenReturn(List.of(pilot));
+
+    assertThat(service.findCharacterEpisodes("1")).containsExactly(pilot);
+    verifyNoInteractions(characterRepo);
+  }
+
+  @Test
+  @DisplayName("Should answer 404 for the episodes of an unknown character")
+  void shouldRejectEpisodesOfUnknownCharacter() {
+    when(episodeRepo.findEpisodesOfCharacter(999_999)).thenReturn(List.of());
+    when(characterRepo.findCharacter("999999", false))
+        .thenThrow(new RickAndMortyApiException(HttpStatusCode.valueOf(404), "not found"));
+
+    assertThatThrownBy(() -> service.findCharacterEpisodes("999999"))
+        .isInstanceOf(RickAndMortyApiException.class)
+        .extracting(ex -> ((RickAndMortyApiException) ex).getStatusCode().value())
+        .isEqualTo(404);
+  }
+
+  @Test
+  @DisplayName("Should answer 404 for the co-appearances of an unknown character")
+  void shouldRejectCoAppearancesOfUnknownCharacter() {
+    when(episodeRepo.findCoAppearances(999_999, 10)).thenReturn(List.of());
+    when(characterRepo.findCharacter("999999", false))
+        .thenThrow(new RickAndMortyApiException(HttpStatusCode.valueOf(404), "not found"));
+
+    assertThatThrownBy(() -> service.findCoAppearances("999999", 10))
+        .isInstanceOf(RickAndMortyApiException.class);
+  }
+}
@@ -8,9 +8,9 @@ import static org.mockito.Mockito.when;
 import cl.mobdev.rm.application.service.FindCharacterService;
 import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
 import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
 import cl.mobdev.rm.domain.model.Location;
 import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
-import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +24,11 @@ import org.springframework.http.HttpStatusCode;
 @DisplayName("Find Character Use Case Tests")
 class FindCharacterUseCaseTest {
 
+  private static final int[] ORIGIN_RESIDENTS = {
+    38, 45, 71, 82, 83, 92, 112, 114, 116, 117, 120, 127, 155, 169, 175, 179, 186, 201, 216, 239,
+    271, 302, 303, 338, 343, 356, 394
+  };
+
   @Mock ExternalCharacterRepository client;
 
   @InjectMocks FindCharacterService service;
@@ -34,34 +39,7 @@ class FindCharacterUseCaseTest {
             "Earth (C-137)",
             "https://rickandmortyapi.com/api/location/1",
             "Dimension C-137",
-            List.of(
-                "https://rickandmortyapi.com/api/character/38",
-                "https://rickandmortyapi.com/api/character/45",
-                "https://rickandmortyapi.com/api/character/71",
-                "https://rickandmortyapi.com/api/character/82",
-                "https://rickandmortyapi.com/api/character/83",
-                "https://rickandmortyapi.com/api/character/92",
-                "https://rickandmortyapi.com/api/character/112",
-                "https://rickandmortyapi.com/api/character/114",
-                "https://rickandmortyapi.com/api/character/116",
-                "https://rickandmortyapi.com/api/character/117",
-                "https://rickandmortyapi.com/api/character/120",
-                "https://rickandmortyapi.com/api/character/127",
-                "https://rickandmortyapi.com/api/character/155",
-                "https://rickandmortyapi.com/api/character/169",
-                "https://rickandmortyapi.com/api/character/175",
-                "https://rickandmortyapi.com/api/character/179",
-                "https://rickandmortyapi.com/api/character/186",
-                "https://rickandmortyapi.com/api/character/201",
-                "https://rickandmortyapi.com/api/character/216",
-                "https://rickandmortyapi.com/api/character/239",
-                "https://rickandmortyapi.com/api/character/271",
-                "https://rickandmortyapi.com/api/character/302",
-                "https://rickandmortyapi.com/api/character/303",
-                "https://rickandmortyapi.com/api/character/338",
-                "https://rickandmortyapi.com/api/character/343",
-                "https://rickandmortyapi.com/api/character/356",
-                "https://rickandmortyapi.com/api/character/394"));
+            CharacterIds.of(ORIGIN_RESIDENTS));
 
     return new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.of(location));
   }
@@ -115,7 +93,7 @@ class FindCharacterUseCaseTest {
               assertThat(location.name()).isEqualTo("Earth (C-137)");
               assertThat(location.url()).isEqualTo("https://rickandmortyapi.com/api/location/1");
               assertThat(location.dimension()).isEqualTo("Dimension C-137");
-              assertThat(location.residents()).asList().hasSize(27);
+              assertThat(location.residents().size()).isEqualTo(27);
             });
 
     verify(client).findCharacter(characterId);
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.when;
 
 import cl.mobdev.rm.application.service.GetSortedCharactersWithMartianTypeService;
 import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
 import cl.mobdev.rm.domain.model.Location;
 import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
 import java.util.List;
@@ -34,10 +35,8 @@ class GetCharactersTest {
             "Earth (C-137)",
             "https://rickandmortyapi.com/api/location/1",
             "Dimension C-137",
-            List.of(
-                "https://rickandmortyapi.com/api/character/1",
-                "https://rickandmortyapi.com/api/character/2"));
-    Location mars = new Location("Mars", "", "Earth (C-137)", List.of());
+            CharacterIds.of(1, 2));
+    Location mars = new Location("Mars", "", "Earth (C-137)", CharacterIds.empty());
 
     when(client.getAllCharacters())
         .thenReturn(
@@ -4,6 +4,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 import cl.mobdev.rm.application.service.IsCharactersEarthlingService;
 import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
 import cl.mobdev.rm.domain.model.Location;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -34,9 +35,7 @@ class IsCharactersEarthlingTest {
                     null,
                     "https://rickandmortyapi.com/api/location/1",
                     "Earth",
-                    java.util.List.of(
-                        "https://rickandmortyapi.com/api/character/1",
-                        "https://rickandmortyapi.com/api/character/2"))));
+                    CharacterIds.of(1, 2))));
 
     boolean isEarthling = service.execute(character);
 
@@ -90,9 +89,7 @@ class IsCharactersEarthlingTest {
                 "Dimension C-137",
                 "https://rickandmortyapi.com/api/location/2",
                 "Dimension C-137",
-                java.util.List.of(
-                    "https://rickandmortyapi.com/api/character/1",
-                    "https://rickandmortyapi.com/api/character/3"))));
+                CharacterIds.of(1, 3))));
   }
 
   private Character createCharacterFromEarth() {
@@ -108,8 +105,6 @@ class IsCharactersEarthlingTest {
                 "Earth (C-137)",
                 "https://rickandmortyapi.com/api/location/1",
                 "Earth",
-                java.util.List.of(
-                    "https://rickandmortyapi.com/api/character/1",
-                    "https://rickandmortyapi.com/api/character/2"))));
+                CharacterIds.of(1, 2))));
   }
 }
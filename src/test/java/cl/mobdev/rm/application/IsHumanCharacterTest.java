@@ -26,7 +26,7 @@ class IsHumanCharacterTest {
   @DisplayName("Should return true if character is human")
   void shouldReturnTrueIfCharacterIsHuman() {
 
-    when(client.findCharacter("1"))
+    when(client.findCharacter("1", false))
         .thenReturn(new Character(1, "Rick Sanchez", "Alive", "Human", "", 41, Optional.empty()));
 
     boolean result = service.execute("1");
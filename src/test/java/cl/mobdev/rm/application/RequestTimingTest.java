@@ -0,0 +1,72 @@
+package cl.mobdev.rm.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cl.mobdev.rm.application.timing.RequestTiming;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Request Timing Test")
+class RequestTimingTest {
+
+  @AfterEach
+  void tearDown() {
+    RequestTiming.end();
+  }
+
+  @Test
+  @DisplayName("Should add up repeated segments and list them in start order before the total")
+  void shouldAddUpSegmentsInStartOrder() {
+    RequestTiming timing = RequestTiming.begin();
+
+    RequestTiming.time("character", () -> sleep(5));
+    RequestTiming.time("location", () -> sleep(5));
+    RequestTiming.time("character", () -> sleep(5));
+
+    Map<String, Double> millis = timing.millis();
+    assertThat(millis).containsOnlyKeys("character", "location", "total");
+    assertThat(millis.keySet()).containsExactly("character", "location", "total");
+    assertThat(millis.get("character")).isGreaterThanOrEqualTo(10.0);
+    assertThat(millis.get("total")).isGreaterThanOrEqualTo(15.0);
+    assertThat(RequestTiming.serverTiming(millis)).startsWith("character;dur=");
+  }
+
+  @Test
+  @DisplayName("Should run the call and record nothing outside a timed request")
+  void shouldRecordNothingWhenNotTimed() {
+    assertThat(RequestTiming.time("character", () -> "Rick")).isEqualTo("Rick");
+    RequestTiming.start("write").close();
+
+    RequestTiming timing = RequestTiming.begin();
+    assertThat(timing.millis()).containsOnlyKeys("total");
+  }
+
+  @Test
+  @DisplayName("Should record work handed to a propagating executor into the submitting request")
+  void shouldPropagateToExecutorThreads() throws Exception {
+    RequestTiming timing = RequestTiming.begin();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      CompletableFuture.runAsync(
+              () -> RequestTiming.time("location", () -> sleep(1)),
+              RequestTiming.propagating(executor))
+          .get();
+    }
+
+    assertThat(timing.millis()).containsKey("location");
+  }
+
+  private static Object sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,111 @@
+package cl.mobdev.rm.benchmark;
+
+import cl.mobdev.rm.application.dto.CharacterResponse;
+import cl.mobdev.rm.application.mapper.CharacterMapper;
+import cl.mobdev.rm.application.mapper.CharacterUrls;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.json.UpstreamJsonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON on both ends of a character request: the upstream character and location bodies read into
+ * the domain, and the character response written and read back. {@code residents} sets the size
+ * of the location, which dominates both the upstream body and the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonRoundTripBenchmark {
+
+  private static final String API = "https://rickandmortyapi.com/api/";
+
+  @Param({"27", "450"})
+  public int residents;
+
+  private ObjectMapper upstreamMapper;
+  private ObjectMapper responseMapper;
+  private byte[] characterBody;
+  private byte[] locationBody;
+  private CharacterResponse response;
+
+  @Setup
+  public void setUp() throws Exception {
+    upstreamMapper = new ObjectMapper().registerModule(new UpstreamJsonModule());
+    responseMapper = new ObjectMapper().registerModule(new Jdk8Module());
+    characterBody =
+        """
+        {"id": 1, "name": "Rick Sanchez", "status": "Alive", "species": "Human", "type": "",
+         "gender": "Male",
+         "origin": {"name": "Earth (Replacement Dimension)", "url": "%slocation/20"},
+         "location": {"name": "Citadel of Ricks", "url": "%slocation/3"},
+         "image": "%scharacter/avatar/1.jpeg",
+         "episode": [%s],
+         "url": "%scharacter/1", "created": "2017-11-04T18:48:46.250Z"}
+        """
+            .formatted(API, API, API, urls("episode", 51), API)
+            .getBytes(StandardCharsets.UTF_8);
+    locationBody =
+        """
+        {"id": 20, "name": "Earth (Replacement Dimension)", "type": "Planet",
+         "dimension": "Replacement Dimension",
+         "residents": [%s],
+         "url": "%slocation/20", "created": "2017-11-18T19:33:01.173Z"}
+        """
+            .formatted(urls("character", residents), API)
+            .getBytes(StandardCharsets.UTF_8);
+
+    Character character = upstreamMapper.readValue(characterBody, Character.class);
+    Location origin = upstreamMapper.readValue(locationBody, Location.class);
+    response =
+        CharacterMapper.mapperToCharacterResponse(
+            character.withLocation(Optional.of(origin)), new CharacterUrls(API));
+  }
+
+  @Benchmark
+  public Character readUpstreamCharacter() throws Exception {
+    return upstreamMapper.readValue(characterBody, Character.class);
+  }
+
+  @Benchmark
+  public Location readUpstreamLocation() throws Exception {
+    return upstreamMapper.readValue(locationBody, Location.class);
+  }
+
+  @Benchmark
+  public byte[] writeResponse() throws Exception {
+    return responseMapper.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public CharacterResponse responseRoundTrip() throws Exception {
+    return responseMapper.readValue(
+        responseMapper.writeValueAsBytes(response), CharacterResponse.class);
+  }
+
+  private static String urls(String resource, int count) {
+    return IntStream.rangeClosed(1, count)
+        .mapToObj(i -> "\"" + API + resource + "/" + i + "\"")
+        .collect(Collectors.joining(","));
+  }
+}
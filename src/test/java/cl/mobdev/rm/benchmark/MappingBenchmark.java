@@ -0,0 +1,103 @@
+package cl.mobdev.rm.benchmark;
+
+import cl.mobdev.rm.application.dto.CharacterResponse;
+import cl.mobdev.rm.application.mapper.CharacterMapper;
+import cl.mobdev.rm.application.mapper.CharacterUrls;
+import cl.mobdev.rm.application.service.MartianTypeTranslatorService;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.entity.CharacterEntity;
+import cl.mobdev.rm.infrastructure.entity.LocationEntity;
+import cl.mobdev.rm.infrastructure.mapper.CharacterDomainMapper;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-character mapping on the request path: stored row to domain and back, domain to response,
+ * and the Martian type translation. {@code residents} sets the size of the origin; Earth (C-137)
+ * has 27, the largest upstream locations have more than 400.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+  private static final CharacterUrls CHARACTER_URLS =
+      new CharacterUrls("https://rickandmortyapi.com/api/");
+
+  @Param({"27", "450"})
+  public int residents;
+
+  private CharacterEntity entity;
+  private Character character;
+
+  @Setup
+  public void setUp() {
+    int[] residentIds = IntStream.rangeClosed(1, residents).map(i -> i * 2).toArray();
+
+    LocationEntity origin = new LocationEntity();
+    origin.setName("Earth (Replacement Dimension)");
+    origin.setUrl("https://rickandmortyapi.com/api/location/20");
+    origin.setDimension("Replacement Dimension");
+    origin.setResidentIds(residentIds);
+    entity = new CharacterEntity();
+    entity.setApiCharacterId(1);
+    entity.setName("Rick Sanchez");
+    entity.setStatus("Alive");
+    entity.setSpecies("Human");
+    entity.setType("Genetic experiment");
+    entity.setEpisodeCount(51);
+    entity.setLocation(origin);
+
+    character =
+        new Character(
+            1,
+            "Rick Sanchez",
+            "Alive",
+            "Human",
+            "Genetic experiment",
+            51,
+            Optional.of(
+                new Location(
+                    "Earth (Replacement Dimension)",
+                    "https://rickandmortyapi.com/api/location/20",
+                    "Replacement Dimension",
+                    CharacterIds.of(residentIds))));
+  }
+
+  @Benchmark
+  public Character entityToDomain() {
+    return CharacterDomainMapper.toDomain(entity);
+  }
+
+  @Benchmark
+  public CharacterEntity domainToEntity() {
+    return CharacterDomainMapper.toEntity(character);
+  }
+
+  @Benchmark
+  public CharacterResponse domainToResponse() {
+    return CharacterMapper.mapperToCharacterResponse(character, CHARACTER_URLS);
+  }
+
+  @Benchmark
+  public String translateToMartian() {
+    return MartianTypeTranslatorService.translateToMartian(character.type());
+  }
+}
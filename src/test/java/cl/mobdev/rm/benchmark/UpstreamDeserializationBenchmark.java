@@ -0,0 +1,165 @@
+package cl.mobdev.rm.benchmark;
+
+import cl.mobdev.rm.application.mapper.CharacterUrls;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.dto.CharacterPageApiDto;
+import cl.mobdev.rm.infrastructure.dto.LocationPageApiDto;
+import cl.mobdev.rm.infrastructure.dto.PageInfoApiDto;
+import cl.mobdev.rm.infrastructure.json.UpstreamJsonModule;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads one upstream page of 20 characters (51 episodes each) and one of 20 locations (40
+ * residents each). The {@code bound} benchmarks reproduce the previous path: bind every field into
+ * DTOs, then map them to the domain. The {@code streaming} ones use {@link UpstreamJsonModule}. Run
+ * with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpstreamDeserializationBenchmark {
+
+  private static final String API = "https://rickandmortyapi.com/api/";
+  private static final CharacterUrls CHARACTER_URLS = new CharacterUrls(API);
+
+  private ObjectMapper boundMapper;
+  private ObjectMapper streamingMapper;
+  private byte[] characterPage;
+  private byte[] locationPage;
+
+  @Setup
+  public void setUp() {
+    boundMapper = new ObjectMapper().registerModule(new Jdk8Module());
+    streamingMapper = new ObjectMapper().registerModule(new UpstreamJsonModule());
+    characterPage = page(IntStream.rangeClosed(1, 20).mapToObj(this::character).toList());
+    locationPage = page(IntStream.rangeClosed(1, 20).mapToObj(this::location).toList());
+  }
+
+  @Benchmark
+  public List<Character> boundCharacters() throws Exception {
+    return boundMapper.readValue(characterPage, BoundCharacterPage.class).results().stream()
+        .map(BoundCharacter::toDomain)
+        .toList();
+  }
+
+  @Benchmark
+  public List<Character> streamingCharacters() throws Exception {
+    return streamingMapper.readValue(characterPage, CharacterPageApiDto.class).results();
+  }
+
+  @Benchmark
+  public List<Location> boundLocations() throws Exception {
+    return boundMapper.readValue(locationPage, BoundLocationPage.class).results().stream()
+        .map(BoundLocation::toDomain)
+        .toList();
+  }
+
+  @Benchmark
+  public List<Location> streamingLocations() throws Exception {
+    return streamingMapper.readValue(locationPage, LocationPageApiDto.class).results();
+  }
+
+  private String character(int id) {
+    return """
+        {"id": %d, "name": "Character %d", "status": "Alive", "species": "Human", "type": "",
+         "gender": "Male",
+         "origin": {"name": "Earth (C-137)", "url": "%slocation/1"},
+         "location": {"name": "Citadel of Ricks", "url": "%slocation/3"},
+         "image": "%scharacter/avatar/%d.jpeg",
+         "episode": [%s],
+         "url": "%scharacter/%d", "created": "2017-11-04T18:48:46.250Z"}
+        """
+        .formatted(id, id, API, API, API, id, urls("episode", 51), API, id);
+  }
+
+  private String location(int id) {
+    return """
+        {"id": %d, "name": "Location %d", "type": "Planet", "dimension": "Dimension C-137",
+         "residents": [%s],
+         "url": "%slocation/%d", "created": "2017-11-10T12:42:04.162Z"}
+        """
+        .formatted(id, id, urls("character", 40), API, id);
+  }
+
+  private static String urls(String resource, int count) {
+    return IntStream.rangeClosed(1, count)
+        .mapToObj(i -> "\"" + API + resource + "/" + i + "\"")
+        .collect(Collectors.joining(","));
+  }
+
+  private static byte[] page(List<String> results) {
+    return ("{\"info\": {\"count\": 826, \"pages\": 42, \"next\": null, \"prev\": null},"
+            + " \"results\": ["
+            + String.join(",", results)
+            + "]}")
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record BoundCharacterPage(PageInfoApiDto info, List<BoundCharacter> results) {}
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record BoundCharacter(
+      Integer id,
+      String name,
+      String status,
+      String species,
+      String type,
+      String gender,
+      Optional<SimpleResource> origin,
+      Optional<SimpleResource> location,
+      List<String> episode) {
+
+    Character toDomain() {
+      return new Character(
+          id,
+          name,
+          status,
+          species,
+          type,
+          episode != null ? episode.size() : 0,
+          origin
+              .filter(resource -> !resource.url().isBlank())
+              .map(
+                  resource ->
+                      new Location(resource.name(), resource.url(), null, CharacterIds.empty())));
+    }
+  }
+
+  record SimpleResource(String name, String url) {}
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record BoundLocationPage(PageInfoApiDto info, List<BoundLocation> results) {}
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record BoundLocation(
+      long id, String name, String type, String dimension, List<String> residents, String url) {
+
+    Location toDomain() {
+      return new Location(name, url, dimension, CHARACTER_URLS.toIds(residents));
+    }
+  }
+}
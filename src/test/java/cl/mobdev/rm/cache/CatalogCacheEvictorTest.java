@@ -0,0 +1,40 @@
+package cl.mobdev.rm.cache;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.cache.CatalogCacheEvictor;
+import cl.mobdev.rm.infrastructure.cache.LocationCache;
+import cl.mobdev.rm.infrastructure.job.CatalogRefreshedEvent;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Catalog Cache Evictor Test")
+class CatalogCacheEvictorTest {
+
+  @Mock ExternalCharacterRepository characters;
+  @Mock LocationCache locations;
+
+  @InjectMocks CatalogCacheEvictor evictor;
+
+  @Test
+  @DisplayName("Should evict exactly the characters and locations a mirror run changed")
+  void shouldEvictChangedEntries() {
+    evictor.onCatalogRefreshed(
+        new CatalogRefreshedEvent(
+            Instant.now(), Set.of(1, 38), Set.of("https://rickandmortyapi.com/api/location/3")));
+
+    verify(locations).invalidate("3");
+    verify(characters).evict("1");
+    verify(characters).evict("38");
+    verifyNoMoreInteractions(characters, locations);
+  }
+}
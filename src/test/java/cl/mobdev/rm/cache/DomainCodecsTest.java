@@ -0,0 +1,79 @@
+package cl.mobdev.rm.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.cache.DomainCodecs;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Domain Codecs Test")
+class DomainCodecsTest {
+
+  private final Location earth =
+      new Location(
+          "Earth (C-137)",
+          "https://rickandmortyapi.com/api/location/1",
+          "Dimension C-137",
+          CharacterIds.of(38, 45, 71, 82, 83, 92, 112, 114, 116, 117, 120, 127, 155, 169, 175));
+
+  @Test
+  @DisplayName("Should round-trip a character with its origin")
+  void shouldRoundTripCharacter() {
+    Character rick = new Character(1, "Rick Sánchez", "Alive", "Human", "", 51, Optional.of(earth));
+
+    assertThat(DomainCodecs.CHARACTER.decode(DomainCodecs.CHARACTER.encode(rick))).isEqualTo(rick);
+  }
+
+  @Test
+  @DisplayName("Should round-trip null fields, an empty origin and unordered residents")
+  void shouldRoundTripEdgeCases() {
+    Character unknown = new Character(826, null, "unknown", null, null, 0, Optional.empty());
+    Location unordered =
+        new Location("Citadel of Ricks", null, null, CharacterIds.of(900, 2, 1_000_000, 0));
+
+    assertThat(DomainCodecs.CHARACTER.decode(DomainCodecs.CHARACTER.encode(unknown)))
+        .isEqualTo(unknown);
+    assertThat(DomainCodecs.LOCATION.decode(DomainCodecs.LOCATION.encode(unordered)))
+        .isEqualTo(unordered);
+  }
+
+  @Test
+  @DisplayName("Should round-trip a character without an ID or episode count")
+  void shouldRoundTripNullIntegers() {
+    Character created =
+        new Character(null, "Rick Prime", "Alive", "Human", "", null, Optional.empty());
+
+    assertThat(DomainCodecs.CHARACTER.decode(DomainCodecs.CHARACTER.encode(created)))
+        .isEqualTo(created);
+  }
+
+  @Test
+  @DisplayName("Should spend about one byte per ascending resident")
+  void shouldEncodeResidentsCompactly() {
+    Location crowded =
+        new Location(
+            "Earth (Replacement Dimension)",
+            "https://rickandmortyapi.com/api/location/20",
+            "Replacement Dimension",
+            CharacterIds.of(IntStream.rangeClosed(1, 230).map(i -> i * 3).toArray()));
+
+    byte[] encoded = DomainCodecs.LOCATION.encode(crowded);
+
+    assertThat(encoded.length).isLessThan(120 + 230 + 10);
+    assertThat(DomainCodecs.LOCATION.decode(encoded)).isEqualTo(crowded);
+  }
+
+  @Test
+  @DisplayName("Should treat a value of another format version as a miss")
+  void shouldRejectOtherVersions() {
+    byte[] encoded = DomainCodecs.LOCATION.encode(earth);
+    encoded[0] = 99;
+
+    assertThat(DomainCodecs.LOCATION.decode(encoded)).isNull();
+  }
+}
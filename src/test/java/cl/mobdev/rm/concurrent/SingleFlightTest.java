@@ -0,0 +1,104 @@
+package cl.mobdev.rm.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.infrastructure.concurrent.SingleFlight;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatusCode;
+
+@DisplayName("Single Flight Test")
+class SingleFlightTest {
+
+  private final SingleFlight singleFlight = new SingleFlight();
+
+  @Test
+  @DisplayName("Should run concurrent identical calls only once and share the result")
+  void shouldCoalesceConcurrentIdenticalCalls() throws Exception {
+    int callers = 20;
+    AtomicInteger executions = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    List<Future<String>> results = new ArrayList<>();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < callers; i++) {
+        results.add(
+            executor.submit(
+                () ->
+                    singleFlight.execute(
+                        "character",
+                        "1",
+                        () -> {
+                          executions.incrementAndGet();
+                          await(release);
+                          return "Rick Sanchez";
+                        })));
+      }
+      waitUntilCoalesced(callers - 1);
+      release.countDown();
+
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Rick Sanchez");
+      }
+    }
+
+    assertThat(executions).hasValue(1);
+    assertThat(singleFlight.coalescedCalls()).isEqualTo(callers - 1);
+  }
+
+  @Test
+  @DisplayName("Should not share calls between different keys")
+  void shouldKeepDifferentKeysApart() {
+    String character = singleFlight.execute("character", "1", () -> "character");
+    String location = singleFlight.execute("location", "1", () -> "location");
+
+    assertThat(character).isEqualTo("character");
+    assertThat(location).isEqualTo("location");
+    assertThat(singleFlight.coalescedCalls()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should propagate failures without caching them")
+  void shouldPropagateFailuresWithoutCaching() {
+    RickAndMortyApiException failure =
+        new RickAndMortyApiException(HttpStatusCode.valueOf(503), "unavailable");
+
+    assertThatThrownBy(
+            () ->
+                singleFlight.execute(
+                    "character",
+                    "1",
+                    () -> {
+                      throw failure;
+                    }))
+        .isSameAs(failure);
+
+    assertThat(singleFlight.execute("character", "1", () -> "Rick Sanchez"))
+        .isEqualTo("Rick Sanchez");
+  }
+
+  private void waitUntilCoalesced(long expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (singleFlight.coalescedCalls() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
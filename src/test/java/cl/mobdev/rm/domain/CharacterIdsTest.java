@@ -0,0 +1,23 @@
+package cl.mobdev.rm.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cl.mobdev.rm.domain.model.CharacterIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Character Ids Test")
+class CharacterIdsTest {
+
+  @Test
+  @DisplayName("Should not be changed through the arrays passed in or handed out")
+  void shouldBeImmutable() {
+    int[] source = {1, 2};
+    CharacterIds ids = CharacterIds.of(source);
+    source[0] = 99;
+    ids.toArray()[1] = 99;
+
+    assertThat(ids).isEqualTo(CharacterIds.of(1, 2));
+    assertThat(CharacterIds.of()).isEqualTo(CharacterIds.empty());
+  }
+}
@@ -0,0 +1,103 @@
+package cl.mobdev.rm.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CatalogMirrorJdbcWriter;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CatalogMirrorJdbcWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Catalog Mirror JDBC Writer Postgres Tests")
+class CatalogMirrorJdbcWriterPostgresTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+  @Autowired private CatalogMirrorJdbcWriter writer;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("Should skip unchanged rows when the same page is mirrored twice")
+  void shouldSkipUnchangedRowsOnSecondRun() {
+    Location earth = location(9_001, "Earth (C-137)");
+    Location citadel = location(9_002, "Citadel of Ricks");
+    List<Character> characters =
+        List.of(
+            character(910_001, "Rick Sanchez", Optional.of(earth)),
+            character(910_002, "Morty Smith", Optional.of(earth)),
+            character(910_003, "Evil Morty", Optional.of(citadel)));
+
+    assertThat(writer.upsertLocations(List.of(earth, citadel)))
+        .containsExactly(earth.url(), citadel.url());
+    assertThat(writer.upsertCharacters(characters)).containsExactly(910_001, 910_002, 910_003);
+
+    assertThat(writer.upsertLocations(List.of(earth, citadel))).isEmpty();
+    assertThat(writer.upsertCharacters(characters)).isEmpty();
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT l.url FROM characters c JOIN location_entity l ON l.id = c.location_id"
+                    + " WHERE c.api_character_id = 910003",
+                String.class))
+        .isEqualTo(citadel.url());
+  }
+
+  @Test
+  @DisplayName("Should write only the rows whose content changed upstream")
+  void shouldWriteOnlyChangedRows() {
+    Location earth = location(9_101, "Earth (Replacement Dimension)");
+    List<Character> characters =
+        List.of(
+            character(910_101, "Beth Smith", Optional.of(earth)),
+            character(910_102, "Jerry Smith", Optional.of(earth)));
+    writer.upsertLocations(List.of(earth));
+    writer.upsertCharacters(characters);
+
+    Location renamed = location(9_101, "Earth (Replacement Dimension 2)");
+    List<Character> oneChanged =
+        List.of(
+            characters.get(0),
+            new Character(910_102, "Jerry Smith", "Dead", "Human", "", 39, Optional.of(earth)));
+
+    assertThat(writer.upsertLocations(List.of(renamed))).containsExactly(renamed.url());
+    assertThat(writer.upsertCharacters(oneChanged)).containsExactly(910_102);
+    assertThat(writer.charactersFrom(List.of(renamed.url())))
+        .containsExactlyInAnyOrder(910_101, 910_102);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT status FROM characters WHERE api_character_id = 910102", String.class))
+        .isEqualTo("Dead");
+  }
+
+  private static Location location(int id, String name) {
+    return new Location(
+        name,
+        "https://rickandmortyapi.com/api/location/" + id,
+        "Dimension C-137",
+        CharacterIds.of(id * 100 + 1, id * 100 + 2));
+  }
+
+  private static Character character(int id, String name, Optional<Location> origin) {
+    return new Character(id, name, "Alive", "Human", "", 39, origin);
+  }
+}
@@ -0,0 +1,220 @@
+package cl.mobdev.rm.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CharacterRepositoryAdapter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CharacterRepositoryAdapter.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Character Repository Postgres Tests")
+class CharacterRepositoryPostgresTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+  private static final String ORIGIN_URL = "https://rickandmortyapi.com/api/location/1";
+
+  @Autowired private CharacterRepositoryAdapter repository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("Should let exactly one of many concurrent saves of the same character win")
+  void shouldLetExactlyOneConcurrentSaveWin() throws Exception {
+    int writers = 16;
+    int apiId = 424_242;
+    Character character =
+        new Character(
+            apiId,
+            "Rick Sanchez",
+            "Alive",
+            "Human",
+            "",
+            51,
+            Optional.of(
+                new Location(
+                    "Earth (C-137)", ORIGIN_URL, "Dimension C-137", CharacterIds.empty())));
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> outcomes = new ArrayList<>(writers);
+    try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+      for (int i = 0; i < writers; i++) {
+        outcomes.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  try {
+                    repository.save(character);
+                    return 201;
+                  } catch (RickAndMortyApiException ex) {
+                    return ex.getStatusCode().value();
+                  }
+                }));
+      }
+      start.countDown();
+
+      List<Integer> statuses = new ArrayList<>(writers);
+      for (Future<Integer> outcome : outcomes) {
+        statuses.add(outcome.get(30, TimeUnit.SECONDS));
+      }
+      assertThat(statuses).containsOnly(201, 409);
+      assertThat(statuses).filteredOn(status -> status == 201).hasSize(1);
+    }
+
+    assertThat(count("SELECT count(*) FROM characters WHERE api_character_id = ?", apiId))
+        .isEqualTo(1);
+    assertThat(
+            count(
+                """
+                SELECT count(*) FROM location_entity l
+                JOIN characters c ON c.location_id = l.id
+                WHERE c.api_character_id = ?""",
+                apiId))
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should share one location row between characters from the same origin")
+  void shouldShareLocationRowBetweenCharacters() {
+    String url = "https://rickandmortyapi.com/api/location/20";
+    Location earth =
+        new Location(
+            "Earth (Replacement Dimension)", url, "Replacement Dimension", CharacterIds.of(1, 2));
+
+    repository.save(new Character(515_001, "Rick", "Alive", "Human", "", 1, Optional.of(earth)));
+    repository.save(new Character(515_002, "Morty", "Alive", "Human", "", 1, Optional.of(earth)));
+
+    assertThat(count("SELECT count(*) FROM location_entity WHERE url = ?", url)).isEqualTo(1);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT array_to_string(resident_ids, ',') FROM location_entity WHERE url = ?",
+                String.class,
+                url))
+        .isEqualTo("1,2");
+    assertThat(repository.findByApiCharacterId(515_002))
+        .flatMap(Character::location)
+        .map(Location::residents)
+        .hasValue(CharacterIds.of(1, 2));
+  }
+
+  @Test
+  @DisplayName("Should let a save take over a copy stored by an upstream read")
+  void shouldSaveOverUpstreamCopy() {
+    int apiId = 525_001;
+    repository.refresh(new Character(apiId, "Rick", "Alive", "Human", "", 51, Optional.empty()));
+
+    repository.save(new Character(apiId, "Rick Prime", "Alive", "Human", "", 51, Optional.empty()));
+
+    assertThat(repository.findByApiCharacterId(apiId)).map(Character::name).hasValue("Rick Prime");
+    assertThat(
+            count(
+                "SELECT count(*) FROM characters WHERE api_character_id = ? AND fetched_at IS NULL",
+                apiId))
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should keep a saved character when the upstream copy is written back")
+  void shouldNotOverwriteSavedCharacterOnRefresh() {
+    int apiId = 525_002;
+    repository.save(new Character(apiId, "Rick Prime", "Alive", "Human", "", 51, Optional.empty()));
+
+    repository.refresh(new Character(apiId, "Rick", "Alive", "Human", "", 51, Optional.empty()));
+
+    assertThat(repository.findByApiCharacterId(apiId)).map(Character::name).hasValue("Rick Prime");
+    assertThatThrownBy(
+            () ->
+                repository.save(
+                    new Character(apiId, "Rick C-137", "Alive", "Human", "", 51, Optional.empty())))
+        .isInstanceOf(RickAndMortyApiException.class)
+        .extracting(ex -> ((RickAndMortyApiException) ex).getStatusCode().value())
+        .isEqualTo(409);
+  }
+
+  /**
+   * Compares the plan of the API id lookup on a small and on a large table. The unique index keeps
+   * it an index scan whose buffer reads grow with the b-tree depth only, instead of with the rows.
+   */
+  @Test
+  @Tag("load")
+  @DisplayName("Should keep the API id lookup cost flat as the table grows")
+  void shouldKeepLookupCostFlatAsTableGrows() throws Exception {
+    int base = 10_000_000;
+
+    seed(base, 1_000);
+    LookupPlan small = explainLookup(base + 500);
+
+    seed(base + 1_000, 200_000);
+    LookupPlan large = explainLookup(base + 150_000);
+
+    assertThat(small.nodeType()).isEqualTo("Index Scan");
+    assertThat(large.nodeType()).isEqualTo("Index Scan");
+    assertThat(large.buffers())
+        .as("lookup at 1k rows: %s; at 201k rows: %s", small, large)
+        .isLessThanOrEqualTo(small.buffers() + 2);
+  }
+
+  private void seed(int fromId, int rows) {
+    jdbcTemplate.update(
+        """
+        INSERT INTO characters (api_character_id, name, status, species, type, episode_count)
+        SELECT g, 'Character ' || g, 'Alive', 'Human', '', 1
+        FROM generate_series(?, ?) g""",
+        fromId,
+        fromId + rows - 1);
+    jdbcTemplate.execute("ANALYZE characters");
+  }
+
+  private LookupPlan explainLookup(int apiId) throws Exception {
+    String json =
+        jdbcTemplate.queryForObject(
+            "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)"
+                + " SELECT * FROM characters WHERE api_character_id = ?",
+            String.class,
+            apiId);
+    JsonNode root = new ObjectMapper().readTree(json).get(0);
+    JsonNode plan = root.get("Plan");
+    return new LookupPlan(
+        plan.get("Node Type").asText(),
+        plan.get("Shared Hit Blocks").asLong() + plan.get("Shared Read Blocks").asLong(),
+        root.get("Execution Time").asDouble());
+  }
+
+  private long count(String sql, Object... args) {
+    return jdbcTemplate.queryForObject(sql, Long.class, args);
+  }
+
+  private record LookupPlan(String nodeType, long buffers, double millis) {}
+}
@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
 import cl.mobdev.rm.domain.model.Location;
 import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
 import cl.mobdev.rm.domain.ports.FindCharacterUseCase;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -102,7 +104,7 @@ class CharacterSliceIntegrationTest {
             "Earth (C-137)",
             "https://rickandmortyapi.com/api/location/1",
             "Dimension C-137",
-            List.of("Rick Sanchez", "Morty Smith"));
+            CharacterIds.of(1, 2));
 
     @Override
     public Character findCharacter(String id) {
@@ -114,6 +116,11 @@ class CharacterSliceIntegrationTest {
       };
     }
 
+    @Override
+    public List<Character> findCharacters(Collection<String> ids) {
+      return ids.stream().map(this::findCharacter).toList();
+    }
+
     @Override
     public List<Character> getAllCharacters() {
       return List.of(
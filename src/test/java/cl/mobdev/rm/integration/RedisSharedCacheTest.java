@@ -0,0 +1,181 @@
+package cl.mobdev.rm.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CachingExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.cache.CacheInvalidationBus;
+import cl.mobdev.rm.infrastructure.cache.DomainCodecs;
+import cl.mobdev.rm.infrastructure.cache.RedisSharedCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/** Two replicas sharing one Redis, each with its own connection, template and listener. */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Redis Shared Cache Test")
+class RedisSharedCacheTest {
+
+  @Container
+  static GenericContainer<?> redis =
+      new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+  private final Location earth =
+      new Location(
+          "Earth (C-137)",
+          "https://rickandmortyapi.com/api/location/1",
+          "Dimension C-137",
+          CharacterIds.of(38, 45, 71));
+
+  private Replica first;
+  private Replica second;
+
+  @BeforeEach
+  void setUp() {
+    first = new Replica(redis.getHost(), redis.getMappedPort(6379), true);
+    second = new Replica(redis.getHost(), redis.getMappedPort(6379), true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    first.close();
+    second.close();
+  }
+
+  @Test
+  @DisplayName("Should let one replica read what another replica wrote")
+  void shouldShareEntriesAcrossReplicas() {
+    first.cache.put("1", earth);
+
+    assertThat(second.cache.get("1")).contains(earth);
+    assertThat(second.cache.getAll(List.of("1", "404"))).isEqualTo(Map.of("1", earth));
+  }
+
+  @Test
+  @DisplayName("Should tell every replica to drop its local copy on eviction")
+  void shouldBroadcastEvictions() throws Exception {
+    first.cache.put("1", earth);
+
+    first.cache.evict("1");
+
+    assertThat(second.invalidated.poll(5, TimeUnit.SECONDS)).isEqualTo("1");
+    assertThat(first.invalidated.poll(5, TimeUnit.SECONDS)).isEqualTo("1");
+    assertThat(second.cache.get("1")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should drop another replica's in-process copy when one replica evicts it")
+  void shouldEvictOtherReplicasLocalCopy() throws Exception {
+    Character rick = new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.of(earth));
+    when(second.upstream.findCharacter("1")).thenReturn(rick);
+    second.characters.findCharacter("1");
+    BlockingQueue<String> dropped = new LinkedBlockingQueue<>();
+    second.characters.addInvalidationListener(dropped::add);
+
+    first.characters.evict("1");
+
+    assertThat(dropped.poll(5, TimeUnit.SECONDS)).isEqualTo("1");
+    assertThat(second.characters.findCachedCharacter("1", true)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should behave as an empty cache while Redis is unreachable")
+  void shouldFallBackWhenRedisIsUnreachable() {
+    Replica offline = new Replica("localhost", 1, false);
+    try {
+      offline.cache.put("1", earth);
+
+      assertThat(offline.cache.get("1")).isEmpty();
+      assertThat(offline.cache.getAll(List.of("1"))).isEmpty();
+      offline.cache.evict("1");
+      assertThat(offline.invalidated).isEmpty();
+    } finally {
+      offline.close();
+    }
+  }
+
+  private static final class Replica {
+
+    final LettuceConnectionFactory connectionFactory;
+    final RedisMessageListenerContainer listener = new RedisMessageListenerContainer();
+    final BlockingQueue<String> invalidated = new LinkedBlockingQueue<>();
+    final RedisSharedCache<Location> cache;
+    final ExternalCharacterRepository upstream = mock(ExternalCharacterRepository.class);
+    final CachingExternalCharacterRepository characters;
+
+    Replica(String host, int port, boolean subscribe) {
+      connectionFactory =
+          new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+      connectionFactory.afterPropertiesSet();
+      connectionFactory.start();
+
+      RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+      template.setConnectionFactory(connectionFactory);
+      template.setKeySerializer(RedisSerializer.string());
+      template.setValueSerializer(RedisSerializer.byteArray());
+      template.setEnableDefaultSerializer(false);
+      template.afterPropertiesSet();
+
+      CacheInvalidationBus bus = new CacheInvalidationBus(template);
+      bus.register("locations", invalidated::add);
+      if (subscribe) {
+        listener.setConnectionFactory(connectionFactory);
+        listener.addMessageListener(bus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        listener.afterPropertiesSet();
+        listener.start();
+      }
+
+      cache =
+          new RedisSharedCache<>(
+              "locations",
+              template,
+              DomainCodecs.LOCATION,
+              Duration.ofMinutes(5),
+              Duration.ofSeconds(30),
+              bus);
+
+      characters =
+          new CachingExternalCharacterRepository(
+              upstream,
+              Caffeine.newBuilder().executor(Runnable::run).buildAsync(),
+              new RedisSharedCache<>(
+                  "characters",
+                  template,
+                  DomainCodecs.CHARACTER,
+                  Duration.ofMinutes(5),
+                  Duration.ofSeconds(30),
+                  bus));
+      bus.register("characters", characters::invalidateLocal);
+    }
+
+    void close() {
+      if (listener.isRunning()) {
+        listener.stop();
+      }
+      connectionFactory.destroy();
+    }
+  }
+}
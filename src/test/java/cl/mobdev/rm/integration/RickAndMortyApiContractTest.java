@@ -6,9 +6,20 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import cl.mobdev.rm.domain.model.Character;
 import cl.mobdev.rm.infrastructure.adapter.outbound.RickAndMortyExternalCharacterRepositoryAdapter;
+import cl.mobdev.rm.infrastructure.cache.LocationCache;
+import cl.mobdev.rm.infrastructure.client.CharacterCatalogFetcher;
 import cl.mobdev.rm.infrastructure.client.RickAndMortyHttpClient;
+import cl.mobdev.rm.infrastructure.client.UpstreamResilience;
+import cl.mobdev.rm.infrastructure.concurrent.SingleFlight;
+import cl.mobdev.rm.infrastructure.json.UpstreamJsonModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.*;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -22,6 +33,7 @@ class RickAndMortyApiContractTest {
   private WireMockServer wireMockServer;
   private RickAndMortyExternalCharacterRepositoryAdapter adapter;
   private RestClient restClient;
+  private SimpleMeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
@@ -30,11 +42,37 @@ class RickAndMortyApiContractTest {
     wireMockServer.start();
 
     // Configure RestClient to use WireMock server
-    restClient = RestClient.builder().baseUrl("http://localhost:8089/api/").build();
+    restClient =
+        RestClient.builder()
+            .baseUrl("http://localhost:8089/api/")
+            .messageConverters(
+                converters -> converters.add(0, UpstreamJsonModule.messageConverter()))
+            .build();
 
     // Create adapter with dependencies
-    RickAndMortyHttpClient httpClient = new RickAndMortyHttpClient(restClient);
-    adapter = new RickAndMortyExternalCharacterRepositoryAdapter(httpClient);
+    meterRegistry = new SimpleMeterRegistry();
+    RickAndMortyHttpClient httpClient =
+        new RickAndMortyHttpClient(
+            restClient,
+            new SingleFlight(),
+            UpstreamResilience.of(
+                new UpstreamResilience.Settings(
+                    3,
+                    Duration.ofMillis(10),
+                    Duration.ofMillis(50),
+                    50,
+                    100,
+                    Duration.ofSeconds(30),
+                    10,
+                    Duration.ofSeconds(1))),
+            meterRegistry);
+    LocationCache locationCache =
+        new LocationCache(httpClient, Caffeine.newBuilder().executor(Runnable::run).buildAsync());
+    adapter =
+        new RickAndMortyExternalCharacterRepositoryAdapter(
+            httpClient,
+            locationCache,
+            new CharacterCatalogFetcher(httpClient, Executors.newVirtualThreadPerTaskExecutor(), 2));
   }
 
   @AfterEach
@@ -99,7 +137,8 @@ class RickAndMortyApiContractTest {
                                   "residents": [
                                     "https://rickandmortyapi.com/api/character/1",
                                     "https://rickandmortyapi.com/api/character/2"
-                                  ]
+                                  ],
+                                  "url": "https://rickandmortyapi.com/api/location/1"
                                 }
                                 """)));
 
@@ -149,5 +188,187 @@ class RickAndMortyApiContractTest {
 
       wireMockServer.verify(getRequestedFor(urlEqualTo("/api/character/999")));
     }
+
+    @Test
+    @DisplayName("Should time upstream calls by resource and final status")
+    void shouldTimeUpstreamCallsByResourceAndStatus() {
+      wireMockServer.stubFor(
+          get(urlEqualTo("/api/character/2"))
+              .willReturn(
+                  okJson(
+                      """
+                      {"id": 2, "name": "Morty Smith", "status": "Alive", "species": "Human",
+                       "type": "", "episode": []}""")));
+      wireMockServer.stubFor(
+          get(urlEqualTo("/api/character/999")).willReturn(aResponse().withStatus(404)));
+
+      adapter.findCharacter("2", false);
+      assertThatThrownBy(() -> adapter.findCharacter("999", false));
+
+      assertThat(upstreamTimer("character", "200").count()).isEqualTo(1);
+      assertThat(upstreamTimer("character", "404").count()).isEqualTo(1);
+    }
+
+    private Timer upstreamTimer(String resource, String status) {
+      return meterRegistry
+          .get("rickandmorty.upstream.requests")
+          .tag("resource", resource)
+          .tag("status", status)
+          .timer();
+    }
+
+    @Test
+    @DisplayName("Should fetch a shared origin location only once")
+    void shouldFetchSharedOriginLocationOnlyOnce() {
+      // Given - two characters from the same origin
+      stubCharacterFromEarth(1, "Rick Sanchez");
+      stubCharacterFromEarth(2, "Morty Smith");
+      wireMockServer.stubFor(
+          get(urlEqualTo("/api/location/1"))
+              .willReturn(
+                  okJson(
+                      """
+                      {
+                        "id": 1,
+                        "name": "Earth (C-137)",
+                        "type": "Planet",
+                        "dimension": "Dimension C-137",
+                        "residents": ["https://rickandmortyapi.com/api/character/1"]
+                      }
+                      """)));
+
+      // When
+      Character rick = adapter.findCharacter("1");
+      Character morty = adapter.findCharacter("2");
+
+      // Then
+      assertThat(rick.location()).isPresent();
+      assertThat(morty.location()).isPresent();
+      assertThat(morty.location().get().name()).isEqualTo("Earth (C-137)");
+      wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/location/1")));
+    }
+  }
+
+  @Nested
+  @DisplayName("Multiple Character API Contract")
+  class MultipleCharacterApiContract {
+
+    @Test
+    @DisplayName("Should resolve a batch with one character call and one location call")
+    void shouldResolveBatchWithTwoUpstreamCalls() {
+      // Given - the array forms of the character and location endpoints
+      wireMockServer.stubFor(
+          get(urlEqualTo("/api/character/%5B3%2C1%2C2%5D"))
+              .willReturn(
+                  okJson(
+                      """
+                      [
+                        {"id": 1, "name": "Rick Sanchez", "status": "Alive", "species": "Human",
+                         "type": "", "origin": {"name": "Earth (C-137)",
+                         "url": "https://rickandmortyapi.com/api/location/1"}, "episode": []},
+                        {"id": 2, "name": "Morty Smith", "status": "Alive", "species": "Human",
+                         "type": "", "origin": {"name": "unknown", "url": ""}, "episode": []},
+                        {"id": 3, "name": "Summer Smith", "status": "Alive", "species": "Human",
+                         "type": "", "origin": {"name": "Earth (Replacement Dimension)",
+                         "url": "https://rickandmortyapi.com/api/location/20"}, "episode": []}
+                      ]
+                      """)));
+      wireMockServer.stubFor(
+          get(urlMatching("/api/location/%5B(1%2C20|20%2C1)%5D"))
+              .willReturn(
+                  okJson(
+                      """
+                      [
+                        {"id": 1, "name": "Earth (C-137)", "type": "Planet",
+                         "dimension": "Dimension C-137", "residents": [],
+                         "url": "https://rickandmortyapi.com/api/location/1"},
+                        {"id": 20, "name": "Earth (Replacement Dimension)", "type": "Planet",
+                         "dimension": "Replacement Dimension", "residents": [],
+                         "url": "https://rickandmortyapi.com/api/location/20"}
+                      ]
+                      """)));
+
+      // When
+      List<Character> result = adapter.findCharacters(List.of("3", "1", "2", "1"));
+
+      // Then - request order is kept and duplicates are dropped
+      assertThat(result).extracting(Character::id).containsExactly(3, 1, 2);
+      assertThat(result.get(0).location()).isPresent();
+      assertThat(result.get(0).location().get().dimension()).isEqualTo("Replacement Dimension");
+      assertThat(result.get(2).location()).isEmpty();
+      assertThat(wireMockServer.getAllServeEvents()).hasSize(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("Character Catalog API Contract")
+  class CharacterCatalogApiContract {
+
+    @Test
+    @DisplayName("Should fetch every page and resolve origins in page order")
+    void shouldFetchEveryPageInOrder() {
+      // Given - three pages whose characters share one origin
+      for (int page = 1; page <= 3; page++) {
+        wireMockServer.stubFor(
+            get(urlEqualTo("/api/character?page=" + page))
+                .willReturn(
+                    okJson(
+                        """
+                        {
+                          "info": {"count": 3, "pages": 3, "next": null, "prev": null},
+                          "results": [
+                            {"id": %d, "name": "Character %d", "status": "Alive",
+                             "species": "Human", "type": "", "origin": {"name": "Earth (C-137)",
+                             "url": "https://rickandmortyapi.com/api/location/1"}, "episode": []}
+                          ]
+                        }
+                        """
+                            .formatted(page, page))));
+      }
+      wireMockServer.stubFor(
+          get(urlEqualTo("/api/location/%5B1%5D"))
+              .willReturn(
+                  okJson(
+                      """
+                      [{"id": 1, "name": "Earth (C-137)", "type": "Planet",
+                        "dimension": "Dimension C-137", "residents": [],
+                        "url": "https://rickandmortyapi.com/api/location/1"}]
+                      """)));
+
+      // When
+      List<Character> result = adapter.getAllCharacters();
+
+      // Then
+      assertThat(result).extracting(Character::id).containsExactly(1, 2, 3);
+      assertThat(result).allSatisfy(character -> assertThat(character.location()).isPresent());
+      wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/location/%5B1%5D")));
+    }
+  }
+
+  private void stubCharacterFromEarth(int id, String name) {
+    wireMockServer.stubFor(
+        get(urlEqualTo("/api/character/" + id))
+            .willReturn(
+                okJson(
+                    """
+                    {
+                      "id": %d,
+                      "name": "%s",
+                      "status": "Alive",
+                      "species": "Human",
+                      "type": "",
+                      "gender": "Male",
+                      "origin": {
+                        "name": "Earth (C-137)",
+                        "url": "https://rickandmortyapi.com/api/location/1"
+                      },
+                      "location": {
+                        "name": "Citadel of Ricks",
+                        "url": "https://rickandmortyapi.com/api/location/3"
+                      },
+                      "episode": ["https://rickandmortyapi.com/api/episode/1"]
+                    }
+                    """
+                        .formatted(id, name))));
   }
 }
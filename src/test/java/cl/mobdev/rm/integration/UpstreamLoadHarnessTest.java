@@ -0,0 +1,411 @@
+package cl.mobdev.rm.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * End-to-end throughput and latency of the character endpoints against a local upstream, so runs
+ * are reproducible offline. WireMock serves every character and location with a log-normal delay
+ * and a share of injected 503s per resource; the app runs unchanged in front of it with Postgres in
+ * a container. Reads pick IDs from a Zipf distribution, like real traffic where a few popular
+ * characters dominate, and a share of requests store new characters.
+ *
+ * <p>After a warm-up the test reports throughput, p50/p99/p999 and upstream calls per inbound
+ * request, writes them to {@code target/load-report.json} and fails when a run is worse than the
+ * thresholds. Everything is set with {@code -Dload.*} system properties; see {@link Settings}.
+ * Run with {@code ./mvnw -Pload-test test -Dtest=UpstreamLoadHarnessTest}.
+ */
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"spring.jpa.show-sql=false"})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Upstream Load Harness Test")
+class UpstreamLoadHarnessTest {
+
+  private static final Settings SETTINGS = Settings.fromSystemProperties();
+  private static final Path REPORT = Path.of("target", "load-report.json");
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+  static WireMockServer upstream =
+      new WireMockServer(
+          WireMockConfiguration.options()
+              .dynamicPort()
+              .extensions(
+                  new FaultInjector(SETTINGS.characterErrorRate(), SETTINGS.locationErrorRate())));
+
+  @DynamicPropertySource
+  static void upstreamProperties(DynamicPropertyRegistry registry) {
+    if (!upstream.isRunning()) {
+      upstream.start();
+      stubUpstream();
+    }
+    registry.add("external.rickandmorty.base-url", () -> upstream.baseUrl() + "/api/");
+  }
+
+  @AfterAll
+  static void stopUpstream() {
+    upstream.stop();
+  }
+
+  @LocalServerPort private int port;
+
+  private final HttpClient httpClient =
+      HttpClient.newBuilder()
+          .executor(Executors.newVirtualThreadPerTaskExecutor())
+          .connectTimeout(Duration.ofSeconds(5))
+          .build();
+  private final AtomicInteger nextNewId = new AtomicInteger(1_000_000);
+
+  @Test
+  @DisplayName("Should stay within the configured throughput, latency and amplification limits")
+  void shouldStayWithinRegressionThresholds() throws Exception {
+    ZipfSampler ids = new ZipfSampler(SETTINGS.characters(), SETTINGS.zipfExponent());
+
+    drive(SETTINGS.warmupRequests(), ids);
+    upstream.resetRequests();
+
+    long started = System.nanoTime();
+    Results results = drive(SETTINGS.requests(), ids);
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+    int upstreamCalls = upstream.getAllServeEvents().size();
+
+    Map<String, Object> report = report(results, elapsed, upstreamCalls);
+    Files.createDirectories(REPORT.getParent());
+    new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+    System.out.println(
+        report.entrySet().stream()
+            .map(entry -> "%-22s %s".formatted(entry.getKey(), entry.getValue()))
+            .collect(Collectors.joining("\n", "Load harness\n", "")));
+
+    assertThat((double) report.get("throughput_rps"))
+        .as("throughput (requests/s)")
+        .isGreaterThanOrEqualTo(SETTINGS.minThroughput());
+    assertThat((double) report.get("p99_ms"))
+        .as("p99 (ms)")
+        .isLessThanOrEqualTo(SETTINGS.maxP99());
+    assertThat((double) report.get("p999_ms"))
+        .as("p999 (ms)")
+        .isLessThanOrEqualTo(SETTINGS.maxP999());
+    assertThat((double) report.get("amplification"))
+        .as("upstream calls per inbound request")
+        .isLessThanOrEqualTo(SETTINGS.maxAmplification());
+    assertThat((double) report.get("error_rate"))
+        .as("share of non-2xx responses")
+        .isLessThanOrEqualTo(SETTINGS.maxErrorRate());
+  }
+
+  /** Sends {@code requests} requests from {@code load.concurrency} clients. */
+  private Results drive(int requests, ZipfSampler ids) throws Exception {
+    Results results = new Results(requests);
+    AtomicInteger next = new AtomicInteger();
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int client = 0; client < SETTINGS.concurrency(); client++) {
+        clients.submit(
+            () -> {
+              for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                results.record(i, send(nextRequest(ids)));
+              }
+              return null;
+            });
+      }
+      clients.shutdown();
+      assertThat(clients.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+    }
+    return results;
+  }
+
+  private HttpRequest nextRequest(ZipfSampler ids) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (random.nextDouble() < SETTINGS.postRatio()) {
+      return post(nextNewId.getAndIncrement(), 1 + random.nextInt(SETTINGS.locations()));
+    }
+    return HttpRequest.newBuilder(uri("/api/v1/character/" + ids.next())).GET().build();
+  }
+
+  /** Latency in nanoseconds, negative for a non-2xx response or a failed exchange. */
+  private long send(HttpRequest request) {
+    long started = System.nanoTime();
+    int status;
+    try {
+      status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    } catch (Exception ex) {
+      status = -1;
+    }
+    long nanos = System.nanoTime() - started;
+    return status >= 200 && status < 300 ? nanos : -nanos;
+  }
+
+  private HttpRequest post(int characterId, int locationId) {
+    String body =
+        """
+        {"id": %d, "name": "Load Test %d", "status": "Alive", "species": "Human", "type": "",
+         "episode_count": 1,
+         "origin": {"name": "Location %d", "url": "https://rickandmortyapi.com/api/location/%d",
+                    "dimension": "Dimension C-137", "residents": []}}
+        """
+            .formatted(characterId, characterId, locationId, locationId);
+    return HttpRequest.newBuilder(uri("/api/v1/character"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+
+  private static Map<String, Object> report(Results results, Duration elapsed, int upstreamCalls) {
+    long[] sorted = results.sortedMicros();
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("requests", sorted.length);
+    report.put("concurrency", SETTINGS.concurrency());
+    report.put("elapsed_ms", elapsed.toMillis());
+    report.put("throughput_rps", round(sorted.length / (elapsed.toNanos() / 1e9)));
+    report.put("p50_ms", percentile(sorted, 0.50));
+    report.put("p99_ms", percentile(sorted, 0.99));
+    report.put("p999_ms", percentile(sorted, 0.999));
+    report.put("max_ms", round(sorted[sorted.length - 1] / 1e3));
+    report.put("upstream_calls", upstreamCalls);
+    report.put("amplification", round(upstreamCalls / (double) sorted.length));
+    report.put("error_rate", round(results.errors.get() / (double) sorted.length));
+    return report;
+  }
+
+  /** Nearest-rank percentile in milliseconds of latencies sorted in microseconds. */
+  private static double percentile(long[] sortedMicros, double quantile) {
+    int rank = (int) Math.ceil(quantile * sortedMicros.length);
+    return round(sortedMicros[Math.max(rank, 1) - 1] / 1e3);
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 100) / 100.0;
+  }
+
+  /**
+   * Every character ID and location ID the generated traffic can ask for. Characters share their
+   * origins, so location lookups hit the location cache far more often than character lookups.
+   * Bodies include {@code url}, which stored locations are keyed by.
+   */
+  private static void stubUpstream() {
+    for (int id = 1; id <= SETTINGS.characters(); id++) {
+      int origin = 1 + (id - 1) % SETTINGS.locations();
+      upstream.stubFor(
+          get(urlPathEqualTo("/api/character/" + id))
+              .willReturn(
+                  okJson(character(id, origin))
+                      .withLogNormalRandomDelay(
+                          SETTINGS.characterLatencyMedian(), SETTINGS.latencySigma())));
+    }
+    for (int id = 1; id <= SETTINGS.locations(); id++) {
+      upstream.stubFor(
+          get(urlPathEqualTo("/api/location/" + id))
+              .willReturn(
+                  okJson(location(id))
+                      .withLogNormalRandomDelay(
+                          SETTINGS.locationLatencyMedian(), SETTINGS.latencySigma())));
+    }
+  }
+
+  private static String character(int id, int origin) {
+    String episodes =
+        IntStream.rangeClosed(1, 1 + id % 40)
+            .mapToObj(episode -> "\"https://rickandmortyapi.com/api/episode/" + episode + "\"")
+            .collect(Collectors.joining(","));
+    return """
+        {"id": %d, "name": "Character %d", "status": "Alive", "species": "Human", "type": "",
+         "origin": {"name": "Location %d", "url": "https://rickandmortyapi.com/api/location/%d"},
+         "episode": [%s], "url": "https://rickandmortyapi.com/api/character/%d",
+         "created": "2017-11-04T18:48:46.250Z"}"""
+        .formatted(id, id, origin, origin, episodes, id);
+  }
+
+  private static String location(int id) {
+    String residents =
+        IntStream.iterate(
+                id,
+                resident -> resident <= SETTINGS.characters(),
+                resident -> resident + SETTINGS.locations())
+            .mapToObj(resident -> "\"https://rickandmortyapi.com/api/character/" + resident + "\"")
+            .collect(Collectors.joining(","));
+    return """
+        {"id": %d, "name": "Location %d", "type": "Planet", "dimension": "Dimension C-137",
+         "residents": [%s], "url": "https://rickandmortyapi.com/api/location/%d",
+         "created": "2017-11-10T12:42:04.162Z"}"""
+        .formatted(id, id, residents, id);
+  }
+
+  /** Latencies of one run, in microseconds, and how many of them were failures. */
+  private static final class Results {
+
+    private final long[] micros;
+    private final AtomicLong errors = new AtomicLong();
+
+    Results(int requests) {
+      micros = new long[requests];
+    }
+
+    void record(int index, long signedNanos) {
+      if (signedNanos < 0) {
+        errors.incrementAndGet();
+      }
+      micros[index] = TimeUnit.NANOSECONDS.toMicros(Math.abs(signedNanos));
+    }
+
+    long[] sortedMicros() {
+      long[] sorted = micros.clone();
+      Arrays.sort(sorted);
+      return sorted;
+    }
+  }
+
+  /** IDs 1..n where ID k is drawn with probability proportional to 1 / k^s. */
+  private static final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+      cumulative = new double[n];
+      double sum = 0;
+      for (int k = 1; k <= n; k++) {
+        sum += 1 / Math.pow(k, exponent);
+        cumulative[k - 1] = sum;
+      }
+      for (int k = 0; k < n; k++) {
+        cumulative[k] /= sum;
+      }
+    }
+
+    int next() {
+      int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+      return (index < 0 ? -index - 1 : index) + 1;
+    }
+  }
+
+  /** Replaces a share of character and location responses with a 503, keeping their delay. */
+  private static final class FaultInjector implements ResponseDefinitionTransformerV2 {
+
+    private final double characterErrorRate;
+    private final double locationErrorRate;
+
+    FaultInjector(double characterErrorRate, double locationErrorRate) {
+      this.characterErrorRate = characterErrorRate;
+      this.locationErrorRate = locationErrorRate;
+    }
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+      String url = serveEvent.getRequest().getUrl();
+      double errorRate =
+          url.startsWith("/api/character/")
+              ? characterErrorRate
+              : url.startsWith("/api/location/") ? locationErrorRate : 0;
+      if (errorRate == 0 || ThreadLocalRandom.current().nextDouble() >= errorRate) {
+        return serveEvent.getResponseDefinition();
+      }
+      return ResponseDefinitionBuilder.like(serveEvent.getResponseDefinition())
+          .but()
+          .withStatus(503)
+          .withBody("{\"error\": \"injected\"}")
+          .build();
+    }
+
+    @Override
+    public String getName() {
+      return "fault-injector";
+    }
+  }
+
+  /**
+   * Load shape, upstream behaviour and pass thresholds, each overridable with {@code
+   * -Dload.<name>}. The default thresholds are loose enough for a laptop; CI should pin its own
+   * from a baseline run.
+   */
+  private record Settings(
+      int requests,
+      int warmupRequests,
+      int concurrency,
+      int characters,
+      int locations,
+      double zipfExponent,
+      double postRatio,
+      double characterLatencyMedian,
+      double locationLatencyMedian,
+      double latencySigma,
+      double characterErrorRate,
+      double locationErrorRate,
+      double minThroughput,
+      double maxP99,
+      double maxP999,
+      double maxAmplification,
+      double maxErrorRate) {
+
+    static Settings fromSystemProperties() {
+      return new Settings(
+          Integer.getInteger("load.requests", 5_000),
+          Integer.getInteger("load.warmup-requests", 1_000),
+          Integer.getInteger("load.concurrency", 32),
+          Integer.getInteger("load.characters", 826),
+          Integer.getInteger("load.locations", 126),
+          number("load.zipf-exponent", 1.1),
+          number("load.post-ratio", 0.05),
+          number("load.latency.character-median-ms", 40),
+          number("load.latency.location-median-ms", 60),
+          number("load.latency.sigma", 0.5),
+          number("load.error-rate.character", 0.01),
+          number("load.error-rate.location", 0.01),
+          number("load.threshold.min-throughput", 200),
+          number("load.threshold.max-p99-ms", 1_000),
+          number("load.threshold.max-p999-ms", 2_500),
+          number("load.threshold.max-amplification", 0.5),
+          number("load.threshold.max-error-rate", 0.01));
+    }
+
+    private static double number(String property, double defaultValue) {
+      String value = System.getProperty(property);
+      return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+  }
+}
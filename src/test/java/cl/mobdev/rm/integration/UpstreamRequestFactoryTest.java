@@ -0,0 +1,155 @@
+package cl.mobdev.rm.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cl.mobdev.rm.infrastructure.client.UpstreamRequestFactory;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("Upstream Request Factory Test")
+class UpstreamRequestFactoryTest {
+
+  private static final String BODY =
+      """
+      {"id": 1, "name": "Rick Sanchez", "status": "Alive", "species": "Human", "type": ""}""";
+
+  private WireMockServer wireMockServer;
+  private PoolingHttpClientConnectionManager connectionManager;
+  private HttpComponentsClientHttpRequestFactory requestFactory;
+
+  @BeforeEach
+  void setUp() {
+    wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+    wireMockServer.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (requestFactory != null) {
+      requestFactory.destroy();
+    }
+    wireMockServer.stop();
+  }
+
+  @Test
+  @DisplayName("Should give up on a response slower than the read timeout")
+  void shouldEnforceReadTimeout() {
+    wireMockServer.stubFor(
+        get(urlEqualTo("/api/character/1")).willReturn(okJson(BODY).withFixedDelay(2_000)));
+    RestClient restClient = restClient(pooled(Duration.ofMillis(200), 4));
+
+    long started = System.nanoTime();
+    assertThatThrownBy(() -> restClient.get().uri("character/1").retrieve().body(String.class))
+        .isInstanceOf(ResourceAccessException.class);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+  }
+
+  @Test
+  @DisplayName("Should ask for gzip and decode a compressed response")
+  void shouldNegotiateGzip() {
+    wireMockServer.stubFor(get(urlEqualTo("/api/character/1")).willReturn(okJson(BODY)));
+    RestClient restClient = restClient(pooled(Duration.ofSeconds(2), 4));
+
+    String body = restClient.get().uri("character/1").retrieve().body(String.class);
+
+    assertThat(body).isEqualTo(BODY);
+    wireMockServer.verify(
+        getRequestedFor(urlEqualTo("/api/character/1"))
+            .withHeader("Accept-Encoding", containing("gzip")));
+  }
+
+  @Test
+  @DisplayName("Should reuse pooled connections across sequential calls")
+  void shouldReuseConnections() {
+    wireMockServer.stubFor(get(urlEqualTo("/api/character/1")).willReturn(okJson(BODY)));
+    RestClient restClient = restClient(pooled(Duration.ofSeconds(2), 4));
+
+    for (int i = 0; i < 20; i++) {
+      restClient.get().uri("character/1").retrieve().body(String.class);
+    }
+
+    assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+    assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+  }
+
+  /**
+   * 400 concurrent calls against a stub that answers in 50 ms. The pooled factory keeps at most 50
+   * connections open and reuses them, so the run takes about 400 / 50 round trips, and never opens
+   * more sockets than the pool allows.
+   */
+  @Test
+  @Tag("load")
+  @DisplayName("Should serve a latency-bound burst through a bounded pool")
+  void shouldServeBurstThroughBoundedPool() throws Exception {
+    int requests = 400;
+    int maxConnections = 50;
+    Duration latency = Duration.ofMillis(50);
+    wireMockServer.stubFor(
+        get(urlEqualTo("/api/character/1"))
+            .willReturn(okJson(BODY).withFixedDelay((int) latency.toMillis())));
+
+    Duration pooled = burst(restClient(pooled(Duration.ofSeconds(5), maxConnections)), requests);
+
+    assertThat(pooled)
+        .as("%d calls at %d ms latency took %d ms", requests, latency.toMillis(), pooled.toMillis())
+        .isLessThan(latency.multipliedBy(2L * requests / maxConnections));
+    assertThat(connectionManager.getTotalStats().getAvailable())
+        .isLessThanOrEqualTo(maxConnections);
+  }
+
+  private Duration burst(RestClient restClient, int requests) throws Exception {
+    long started = System.nanoTime();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<String>> responses = new ArrayList<>(requests);
+      for (int i = 0; i < requests; i++) {
+        responses.add(
+            executor.submit(
+                () -> restClient.get().uri("character/1").retrieve().body(String.class)));
+      }
+      for (Future<String> response : responses) {
+        assertThat(response.get(30, TimeUnit.SECONDS)).isEqualTo(BODY);
+      }
+    }
+    return Duration.ofNanos(System.nanoTime() - started);
+  }
+
+  private ClientHttpRequestFactory pooled(Duration readTimeout, int maxConnections) {
+    UpstreamRequestFactory.Settings settings =
+        new UpstreamRequestFactory.Settings(
+            Duration.ofSeconds(1),
+            readTimeout,
+            Duration.ofSeconds(5),
+            maxConnections,
+            Duration.ofSeconds(30));
+    connectionManager = UpstreamRequestFactory.connectionManager(settings);
+    requestFactory = UpstreamRequestFactory.requestFactory(connectionManager, settings);
+    return requestFactory;
+  }
+
+  private RestClient restClient(ClientHttpRequestFactory factory) {
+    return RestClient.builder()
+        .baseUrl(wireMockServer.baseUrl() + "/api/")
+        .requestFactory(factory)
+        .build();
+  }
+}
@@ -0,0 +1,161 @@
+package cl.mobdev.rm.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cl.mobdev.rm.domain.exception.RickAndMortyApiException;
+import cl.mobdev.rm.infrastructure.client.UpstreamResilience;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("Upstream Resilience Test")
+class UpstreamResilienceTest {
+
+  private static final String PATH = "/api/character/1";
+  private static final String BODY = "{\"id\": 1, \"name\": \"Rick Sanchez\"}";
+
+  private WireMockServer wireMockServer;
+  private RestClient restClient;
+
+  @BeforeEach
+  void setUp() {
+    wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+    wireMockServer.start();
+    restClient = RestClient.builder().baseUrl(wireMockServer.baseUrl() + "/api/").build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    wireMockServer.stop();
+  }
+
+  @Test
+  @DisplayName("Should retry a 503 and return the answer of the next attempt")
+  void shouldRetryServerError() {
+    stubSequence(aResponse().withStatus(503), okJson(BODY));
+
+    String body = resilience(3, 10, 2, Duration.ZERO).call(this::getCharacter);
+
+    assertThat(body).isEqualTo(BODY);
+    wireMockServer.verify(2, getRequestedFor(urlEqualTo(PATH)));
+  }
+
+  @Test
+  @DisplayName("Should retry a reset connection")
+  void shouldRetryConnectionReset() {
+    stubSequence(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER), okJson(BODY));
+
+    String body = resilience(3, 10, 2, Duration.ZERO).call(this::getCharacter);
+
+    assertThat(body).isEqualTo(BODY);
+  }
+
+  @Test
+  @DisplayName("Should not retry a 404")
+  void shouldNotRetryNotFound() {
+    wireMockServer.stubFor(get(urlEqualTo(PATH)).willReturn(aResponse().withStatus(404)));
+
+    assertThatThrownBy(() -> resilience(3, 10, 2, Duration.ZERO).call(this::getCharacter))
+        .isInstanceOf(HttpClientErrorException.NotFound.class);
+
+    wireMockServer.verify(1, getRequestedFor(urlEqualTo(PATH)));
+  }
+
+  @Test
+  @DisplayName("Should give up after the last attempt")
+  void shouldGiveUpAfterMaxAttempts() {
+    wireMockServer.stubFor(get(urlEqualTo(PATH)).willReturn(aResponse().withStatus(500)));
+
+    assertThatThrownBy(() -> resilience(3, 10, 2, Duration.ZERO).call(this::getCharacter))
+        .isInstanceOf(HttpServerErrorException.class);
+
+    wireMockServer.verify(3, getRequestedFor(urlEqualTo(PATH)));
+  }
+
+  @Test
+  @DisplayName("Should open the breaker and fail fast without calling the upstream")
+  void shouldFailFastWhenBreakerIsOpen() {
+    wireMockServer.stubFor(get(urlEqualTo(PATH)).willReturn(aResponse().withStatus(500)));
+    UpstreamResilience resilience = resilience(1, 4, 2, Duration.ZERO);
+
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> resilience.call(this::getCharacter))
+          .isInstanceOf(HttpServerErrorException.class);
+    }
+    assertThat(resilience.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    assertThatThrownBy(() -> resilience.call(this::getCharacter))
+        .isInstanceOfSatisfying(
+            RickAndMortyApiException.class,
+            ex -> assertThat(ex.getStatusCode().value()).isEqualTo(503));
+    wireMockServer.verify(4, getRequestedFor(urlEqualTo(PATH)));
+  }
+
+  @Test
+  @DisplayName("Should reject a call when the bulkhead is full")
+  void shouldRejectWhenBulkheadIsFull() throws Exception {
+    wireMockServer.stubFor(get(urlEqualTo(PATH)).willReturn(okJson(BODY).withFixedDelay(1_000)));
+    UpstreamResilience resilience = resilience(1, 10, 1, Duration.ZERO);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      CompletableFuture<String> slow =
+          CompletableFuture.supplyAsync(() -> resilience.call(this::getCharacter), executor);
+      while (wireMockServer.getAllServeEvents().isEmpty()) {
+        Thread.sleep(10);
+      }
+
+      assertThatThrownBy(() -> resilience.call(this::getCharacter))
+          .isInstanceOfSatisfying(
+              RickAndMortyApiException.class,
+              ex -> assertThat(ex.getStatusCode().value()).isEqualTo(503));
+      assertThat(slow.get()).isEqualTo(BODY);
+    }
+  }
+
+  private String getCharacter() {
+    return restClient.get().uri("character/1").retrieve().body(String.class);
+  }
+
+  private void stubSequence(ResponseDefinitionBuilder first, ResponseDefinitionBuilder then) {
+    wireMockServer.stubFor(
+        get(urlEqualTo(PATH))
+            .inScenario("flaky")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(first)
+            .willSetStateTo("recovered"));
+    wireMockServer.stubFor(
+        get(urlEqualTo(PATH))
+            .inScenario("flaky")
+            .whenScenarioStateIs("recovered")
+            .willReturn(then));
+  }
+
+  private static UpstreamResilience resilience(
+      int maxAttempts, int slidingWindowSize, int maxConcurrentCalls, Duration maxBulkheadWait) {
+    return UpstreamResilience.of(
+        new UpstreamResilience.Settings(
+            maxAttempts,
+            Duration.ofMillis(10),
+            Duration.ofMillis(50),
+            50,
+            slidingWindowSize,
+            Duration.ofSeconds(30),
+            maxConcurrentCalls,
+            maxBulkheadWait));
+  }
+}
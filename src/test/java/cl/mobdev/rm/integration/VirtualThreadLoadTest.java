@@ -0,0 +1,163 @@
+package cl.mobdev.rm.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Tomcat is capped at 10 worker threads here. With virtual threads the cap no longer bounds
+ * concurrency, so 200 requests that each block for 200 ms on the upstream finish in roughly one
+ * upstream round trip instead of 200 / 10 * 200 ms = 4 s. Reads check Postgres before the
+ * upstream and saves write to it, so both tests run against a containerized database.
+ */
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"spring.threads.virtual.enabled=true", "server.tomcat.threads.max=10"})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Virtual Thread Load Test")
+class VirtualThreadLoadTest {
+
+  private static final int REQUESTS = 200;
+  private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(200);
+  private static final List<String> JPA_PATH =
+      List.of(
+          "org.postgresql",
+          "com.zaxxer.hikari",
+          "org.hibernate",
+          "cl.mobdev.rm.infrastructure.adapter.outbound.CharacterRepositoryAdapter");
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+  @LocalServerPort private int port;
+
+  @MockitoBean private ExternalCharacterRepository externalRepository;
+
+  private final ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private final HttpClient httpClient = HttpClient.newBuilder().executor(clientExecutor).build();
+
+  @AfterEach
+  void closeClient() {
+    httpClient.close();
+    clientExecutor.close();
+  }
+
+  @Test
+  @DisplayName("Should serve more blocked requests than Tomcat worker threads at once")
+  void shouldServeBeyondPlatformThreadCeiling() throws Exception {
+    when(externalRepository.findCharacter(anyString()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(UPSTREAM_LATENCY);
+              return new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.empty());
+            });
+
+    long started = System.nanoTime();
+    List<Integer> statuses = sendConcurrently(i -> get("/api/v1/character/1"));
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+    assertThat(statuses).hasSize(REQUESTS).containsOnly(200);
+    assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+  }
+
+  @Test
+  @DisplayName("Should not pin virtual threads on the JPA save path")
+  void shouldNotPinVirtualThreadsInJpaPath() throws Exception {
+    List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+    int baseId = ThreadLocalRandom.current().nextInt(1_000_000, 2_000_000);
+
+    try (RecordingStream recording = new RecordingStream()) {
+      recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+      recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+      recording.startAsync();
+
+      List<Integer> statuses = sendConcurrently(i -> post(baseId + i));
+      assertThat(statuses).hasSize(REQUESTS).doesNotContain(500);
+
+      recording.stop();
+    }
+
+    assertThat(pinned.stream().filter(VirtualThreadLoadTest::isInJpaPath).toList()).isEmpty();
+  }
+
+  private List<Integer> sendConcurrently(RequestFactory requests) throws Exception {
+    List<Future<Integer>> responses = new ArrayList<>(REQUESTS);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < REQUESTS; i++) {
+        HttpRequest request = requests.create(i);
+        responses.add(
+            executor.submit(
+                () ->
+                    httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+      }
+      List<Integer> statuses = new ArrayList<>(REQUESTS);
+      for (Future<Integer> response : responses) {
+        statuses.add(response.get(30, TimeUnit.SECONDS));
+      }
+      return statuses;
+    }
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+  }
+
+  private HttpRequest post(int characterId) {
+    String body =
+        """
+        {"id": %d, "name": "Load Test %d", "status": "Alive", "species": "Human", "type": "",
+         "episode_count": 1,
+         "origin": {"name": "Earth (C-137)", "url": "https://rickandmortyapi.com/api/location/1",
+                    "dimension": "Dimension C-137", "residents": []}}
+        """
+            .formatted(characterId, characterId);
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/character"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private static boolean isInJpaPath(RecordedEvent event) {
+    return event.getStackTrace() != null
+        && event.getStackTrace().getFrames().stream()
+            .map(RecordedFrame::getMethod)
+            .anyMatch(method -> JPA_PATH.stream().anyMatch(method.getType().getName()::startsWith));
+  }
+
+  @FunctionalInterface
+  private interface RequestFactory {
+    HttpRequest create(int index);
+  }
+}
@@ -0,0 +1,122 @@
+package cl.mobdev.rm.jfr;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.ports.ExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CachingExternalCharacterRepository;
+import cl.mobdev.rm.infrastructure.client.UpstreamCallEventInterceptor;
+import cl.mobdev.rm.infrastructure.jfr.CacheAccessEvent;
+import cl.mobdev.rm.infrastructure.jfr.CacheLoadEvent;
+import cl.mobdev.rm.infrastructure.jfr.UpstreamCallEvent;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestClient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JFR Events Test")
+class JfrEventsTest {
+
+  private static final String BODY = "{\"id\": 1, \"name\": \"Rick Sanchez\"}";
+
+  @Mock ExternalCharacterRepository delegate;
+
+  private final Recording recording = new Recording();
+
+  @BeforeEach
+  void setUp() {
+    recording.enable(UpstreamCallEvent.class).withThreshold(Duration.ZERO);
+    recording.enable(CacheAccessEvent.class).withThreshold(Duration.ZERO);
+    recording.enable(CacheLoadEvent.class).withThreshold(Duration.ZERO);
+    recording.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    recording.close();
+  }
+
+  @Test
+  @DisplayName("Should record each upstream exchange with resource, ID, status and body bytes")
+  void shouldRecordUpstreamCalls() throws Exception {
+    WireMockServer wireMockServer =
+        new WireMockServer(WireMockConfiguration.options().dynamicPort());
+    wireMockServer.start();
+    try {
+      wireMockServer.stubFor(get(urlEqualTo("/api/character/1")).willReturn(okJson(BODY)));
+      RestClient restClient =
+          RestClient.builder()
+              .baseUrl(wireMockServer.baseUrl() + "/api/")
+              .requestInterceptor(new UpstreamCallEventInterceptor())
+              .build();
+
+      restClient.get().uri("character/1").retrieve().body(String.class);
+    } finally {
+      wireMockServer.stop();
+    }
+
+    List<RecordedEvent> events = events(UpstreamCallEvent.class);
+    assertThat(events).hasSize(1);
+    RecordedEvent call = events.getFirst();
+    assertThat(call.getString("resource")).isEqualTo("character");
+    assertThat(call.getString("id")).isEqualTo("1");
+    assertThat(call.getInt("status")).isEqualTo(200);
+    assertThat(call.getLong("bytes")).isEqualTo(BODY.length());
+  }
+
+  @Test
+  @DisplayName("Should record a miss with its load, then a hit without one")
+  void shouldRecordCacheMissLoadAndHit() throws Exception {
+    Character rick = new Character(1, "Rick Sanchez", "Alive", "Human", "", 51, Optional.empty());
+    when(delegate.findCharacter("1")).thenReturn(rick);
+    CachingExternalCharacterRepository repository =
+        new CachingExternalCharacterRepository(
+            delegate, Caffeine.newBuilder().executor(Runnable::run).buildAsync());
+
+    repository.findCharacter("1");
+    repository.findCharacter("1");
+
+    List<RecordedEvent> accesses = events(CacheAccessEvent.class);
+    assertThat(accesses).extracting(event -> event.getString("cache")).containsOnly("characters");
+    assertThat(accesses).extracting(event -> event.getBoolean("hit")).containsExactly(false, true);
+    List<RecordedEvent> loads = events(CacheLoadEvent.class);
+    assertThat(loads).hasSize(1);
+    assertThat(loads.getFirst().getString("key")).isEqualTo("1");
+    assertThat(loads.getFirst().getBoolean("succeeded")).isTrue();
+  }
+
+  private List<RecordedEvent> events(Class<? extends jdk.jfr.Event> type) throws Exception {
+    if (recording.getState() == RecordingState.RUNNING) {
+      recording.stop();
+    }
+    Path dump = Files.createTempFile("rm-events", ".jfr");
+    try {
+      recording.dump(dump);
+      String name = type.getAnnotation(jdk.jfr.Name.class).value();
+      return RecordingFile.readAllEvents(dump).stream()
+          .filter(event -> event.getEventType().getName().equals(name))
+          .toList();
+    } finally {
+      Files.deleteIfExists(dump);
+    }
+  }
+}
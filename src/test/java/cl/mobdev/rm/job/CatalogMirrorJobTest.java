@@ -0,0 +1,163 @@
+package cl.mobdev.rm.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CatalogMirrorJdbcWriter;
+import cl.mobdev.rm.infrastructure.adapter.outbound.CatalogSyncStateJpaRepository;
+import cl.mobdev.rm.infrastructure.client.RickAndMortyHttpClient;
+import cl.mobdev.rm.infrastructure.dto.CharacterPageApiDto;
+import cl.mobdev.rm.infrastructure.dto.LocationPageApiDto;
+import cl.mobdev.rm.infrastructure.dto.PageInfoApiDto;
+import cl.mobdev.rm.infrastructure.entity.CatalogSyncStateEntity;
+import cl.mobdev.rm.infrastructure.job.CatalogMirrorJob;
+import cl.mobdev.rm.infrastructure.job.CatalogRefreshedEvent;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Catalog Mirror Job Test")
+class CatalogMirrorJobTest {
+
+  @Mock RickAndMortyHttpClient httpClient;
+  @Mock CatalogMirrorJdbcWriter writer;
+  @Mock CatalogSyncStateJpaRepository stateRepository;
+  @Mock PlatformTransactionManager transactionManager;
+  @Mock ApplicationEventPublisher eventPublisher;
+
+  CatalogMirrorJob job;
+
+  @BeforeEach
+  void setUp() {
+    job =
+        new CatalogMirrorJob(
+            httpClient,
+            writer,
+            stateRepository,
+            new TransactionTemplate(transactionManager),
+            eventPublisher);
+    when(httpClient.getLocationPage(anyInt()))
+        .thenReturn(new LocationPageApiDto(new PageInfoApiDto(0, 0, null, null), List.of()));
+    when(stateRepository.findById("locations")).thenReturn(Optional.empty());
+    when(writer.upsertCharacters(anyList()))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<Character>>getArgument(0).stream().map(Character::id).toList());
+  }
+
+  @Test
+  @DisplayName("Should write every page of a fresh catalog and mark it completed")
+  void shouldMirrorAllPages() {
+    when(stateRepository.findById("characters")).thenReturn(Optional.empty());
+    when(httpClient.getCharacterPage(anyInt())).thenReturn(characterPage(3));
+
+    assertThat(job.run()).isTrue();
+
+    verify(httpClient).getCharacterPage(1);
+    verify(httpClient).getCharacterPage(2);
+    verify(httpClient).getCharacterPage(3);
+    verify(writer, times(3)).upsertCharacters(anyList());
+    verify(eventPublisher).publishEvent(any(CatalogRefreshedEvent.class));
+  }
+
+  @Test
+  @DisplayName("Should publish the changed rows and the characters of changed origins")
+  void shouldPublishChangedRows() {
+    String earth = "https://rickandmortyapi.com/api/location/1";
+    when(httpClient.getLocationPage(anyInt()))
+        .thenReturn(
+            new LocationPageApiDto(
+                new PageInfoApiDto(1, 1, null, null),
+                List.of(new Location("Earth (C-137)", earth, "Dimension C-137", null))));
+    when(writer.upsertLocations(anyList())).thenReturn(List.of(earth));
+    when(writer.charactersFrom(Set.of(earth))).thenReturn(List.of(38, 45));
+    when(stateRepository.findById("characters")).thenReturn(Optional.empty());
+    when(httpClient.getCharacterPage(anyInt())).thenReturn(characterPage(1));
+    when(writer.upsertCharacters(anyList())).thenReturn(List.of(1, 2));
+
+    job.run();
+
+    ArgumentCaptor<CatalogRefreshedEvent> event =
+        ArgumentCaptor.forClass(CatalogRefreshedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertThat(event.getValue().changedLocationUrls()).containsExactly(earth);
+    assertThat(event.getValue().changedCharacterIds()).containsExactlyInAnyOrder(1, 2, 38, 45);
+  }
+
+  @Test
+  @DisplayName("Should resume after the last committed page when the upstream count is unchanged")
+  void shouldResumeInterruptedRun() {
+    CatalogSyncStateEntity state = new CatalogSyncStateEntity("characters");
+    state.start(60, 3);
+    state.pageDone(1, 20, 20);
+    state.pageDone(2, 20, 20);
+    when(stateRepository.findById("characters")).thenReturn(Optional.of(state));
+    when(httpClient.getCharacterPage(anyInt())).thenReturn(characterPage(3));
+
+    Instant interruptedRunStart = state.getRunStartedAt();
+
+    job.run();
+
+    verify(httpClient).getCharacterPage(1);
+    verify(httpClient, never()).getCharacterPage(2);
+    verify(httpClient).getCharacterPage(3);
+    assertThat(state.getStatus()).isEqualTo(CatalogSyncStateEntity.Status.COMPLETED);
+    assertThat(state.getLastPage()).isEqualTo(3);
+    assertThat(state.getRowsProcessed()).isEqualTo(60);
+    assertThat(state.getRowsBeforeRun()).isEqualTo(40);
+    assertThat(state.getRunStartedAt()).isAfterOrEqualTo(interruptedRunStart);
+  }
+
+  @Test
+  @DisplayName("Should start over when the upstream count changed since the interrupted run")
+  void shouldRestartWhenCatalogChanged() {
+    CatalogSyncStateEntity state = new CatalogSyncStateEntity("characters");
+    state.start(40, 2);
+    state.pageDone(1, 20, 20);
+    when(stateRepository.findById("characters")).thenReturn(Optional.of(state));
+    when(httpClient.getCharacterPage(anyInt())).thenReturn(characterPage(3));
+
+    job.run();
+
+    verify(httpClient).getCharacterPage(2);
+    assertThat(state.getUpstreamCount()).isEqualTo(60);
+    assertThat(state.getRowsProcessed()).isEqualTo(60);
+    assertThat(state.getRowsWritten()).isEqualTo(60);
+    assertThat(state.getRowsBeforeRun()).isZero();
+  }
+
+  /** A catalog of {@code pages} pages of 20 characters; every page returns the same rows. */
+  private static CharacterPageApiDto characterPage(int pages) {
+    List<Character> results =
+        IntStream.rangeClosed(1, 20)
+            .mapToObj(
+                id ->
+                    new Character(id, "Character " + id, "Alive", "Human", "", 1, Optional.empty()))
+            .toList();
+    return new CharacterPageApiDto(new PageInfoApiDto(pages * 20, pages, null, null), results);
+  }
+}
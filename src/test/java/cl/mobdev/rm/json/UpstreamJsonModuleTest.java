@@ -0,0 +1,81 @@
+package cl.mobdev.rm.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cl.mobdev.rm.domain.model.Character;
+import cl.mobdev.rm.domain.model.CharacterIds;
+import cl.mobdev.rm.domain.model.Location;
+import cl.mobdev.rm.infrastructure.json.UpstreamJsonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Upstream Json Module Test")
+class UpstreamJsonModuleTest {
+
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new UpstreamJsonModule());
+
+  @Test
+  @DisplayName("Should count episodes, skip unused fields and keep the origin URL")
+  void shouldReadCharacter() throws Exception {
+    Character character =
+        mapper.readValue(
+            """
+            {"id": 1, "name": "Rick Sanchez", "status": "Alive", "species": "Human", "type": "",
+             "gender": "Male", "image": "https://rickandmortyapi.com/api/character/avatar/1.jpeg",
+             "origin": {"name": "Earth (C-137)",
+                        "url": "https://rickandmortyapi.com/api/location/1"},
+             "location": {"name": "Citadel of Ricks",
+                          "url": "https://rickandmortyapi.com/api/location/3"},
+             "episode": ["https://rickandmortyapi.com/api/episode/1",
+                         "https://rickandmortyapi.com/api/episode/2",
+                         "https://rickandmortyapi.com/api/episode/3"],
+             "url": "https://rickandmortyapi.com/api/character/1",
+             "created": "2017-11-04T18:48:46.250Z"}
+            """,
+            Character.class);
+
+    assertThat(character.id()).isEqualTo(1);
+    assertThat(character.name()).isEqualTo("Rick Sanchez");
+    assertThat(character.type()).isEmpty();
+    assertThat(character.episodeCount()).isEqualTo(3);
+    assertThat(character.location())
+        .map(Location::url)
+        .hasValue("https://rickandmortyapi.com/api/location/1");
+  }
+
+  @Test
+  @DisplayName("Should leave the location empty for the unknown origin")
+  void shouldReadUnknownOrigin() throws Exception {
+    Character character =
+        mapper.readValue(
+            """
+            {"id": 2, "name": "Morty Smith", "origin": {"name": "unknown", "url": ""},
+             "episode": null}
+            """,
+            Character.class);
+
+    assertThat(character.location()).isEmpty();
+    assertThat(character.episodeCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should parse resident IDs from the resident URLs")
+  void shouldReadLocation() throws Exception {
+    Location location =
+        mapper.readValue(
+            """
+            {"id": 1, "name": "Earth (C-137)", "type": "Planet", "dimension": "Dimension C-137",
+             "residents": ["https://rickandmortyapi.com/api/character/38",
+                           "https://rickandmortyapi.com/api/character/45"],
+             "url": "https://rickandmortyapi.com/api/location/1",
+             "created": "2017-11-10T12:42:04.162Z"}
+            """,
+            Location.class);
+
+    assertThat(location.name()).isEqualTo("Earth (C-137)");
+    assertThat(location.dimension()).isEqualTo("Dimension C-137");
+    assertThat(location.url()).isEqualTo("https://rickandmortyapi.com/api/location/1");
+    assertThat(location.residents()).isEqualTo(CharacterIds.of(38, 45));
+  }
+}